@@ -0,0 +1,98 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load against a running backend: each client sends the next request
+ * as soon as the previous one returns. Mixes paged searches (count + page) with
+ * dashboard reads. No dependencies; run with the JDK's source launcher:
+ *
+ * <pre>java loadtest/SearchLoad.java [baseUrl] [clients] [seconds]</pre>
+ *
+ * Defaults: http://localhost:8080, 500 clients, 60 seconds after a 10 second warmup.
+ */
+public class SearchLoad {
+    private static final String[] SORTS = {"createdAt", "orderedDate", "deliveryDate", "amountRupees", "status"};
+    private static final String[] STATUSES = {"ordered", "delivered", "review submitted", "payment received"};
+
+    public static void main(String[] args) throws Exception {
+        String base = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int warmup = 10;
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        LongAdder ok = new LongAdder();
+        LongAdder errors = new LongAdder();
+        List<long[]> latencies = new ArrayList<>();
+        AtomicLong measureFrom = new AtomicLong(Long.MAX_VALUE);
+        long stopAt = System.nanoTime() + Duration.ofSeconds(warmup + seconds).toNanos();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            long[] samples = new long[seconds * 200];
+            latencies.add(samples);
+            threads.add(Thread.ofVirtual().start(() -> {
+                int n = 0;
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                while (System.nanoTime() < stopAt) {
+                    HttpRequest req = HttpRequest.newBuilder(URI.create(base + nextPath(rnd)))
+                            .timeout(Duration.ofSeconds(30)).header("Accept-Encoding", "gzip").GET().build();
+                    long t0 = System.nanoTime();
+                    boolean success;
+                    try {
+                        HttpResponse<Void> res = http.send(req, HttpResponse.BodyHandlers.discarding());
+                        success = res.statusCode() == 200;
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    long t1 = System.nanoTime();
+                    if (t0 < measureFrom.get())
+                        continue;
+                    if (success) {
+                        ok.increment();
+                        if (n < samples.length)
+                            samples[n++] = t1 - t0;
+                    } else {
+                        errors.increment();
+                    }
+                }
+                if (n < samples.length)
+                    samples[n] = -1;
+            }));
+        }
+        Thread.sleep(Duration.ofSeconds(warmup));
+        measureFrom.set(System.nanoTime());
+        for (Thread t : threads)
+            t.join();
+
+        long[] all = latencies.stream().flatMapToLong(s -> Arrays.stream(s).takeWhile(v -> v > 0)).sorted().toArray();
+        System.out.printf("clients=%d seconds=%d requests=%d errors=%d throughput=%.1f req/s%n",
+                clients, seconds, ok.sum(), errors.sum(), ok.sum() / (double) seconds);
+        if (all.length > 0)
+            System.out.printf("latency ms p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                    ms(all, 0.50), ms(all, 0.95), ms(all, 0.99), all[all.length - 1] / 1e6);
+    }
+
+    private static String nextPath(ThreadLocalRandom rnd) {
+        if (rnd.nextInt(10) == 0)
+            return "/api/reviews/dashboard-stats";
+        String path = "/api/reviews/search?page=" + rnd.nextInt(20) + "&size=20&sort=" + SORTS[rnd.nextInt(SORTS.length)]
+                + "&dir=" + (rnd.nextBoolean() ? "ASC" : "DESC");
+        if (rnd.nextBoolean())
+            path += "&statusIn=" + STATUSES[rnd.nextInt(STATUSES.length)].replace(" ", "%20");
+        return path;
+    }
+
+    private static double ms(long[] sorted, double q) {
+        return sorted[Math.min(sorted.length - 1, (int) (q * sorted.length))] / 1e6;
+    }
+}
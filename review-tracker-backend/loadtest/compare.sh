@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Runs SearchLoad against the packaged jar twice, once per threading mode.
+# Needs a built jar (../build.sh or mvn package) and a MongoDB with data in it;
+# SPRING_DATA_MONGODB_URI is passed through. Usage: ./compare.sh [clients] [seconds]
+# READY_TIMEOUT (default 120) bounds the wait for the server to report healthy.
+# POOL_SIZE (default: clients) sizes the Mongo connection pool for both modes, so
+# neither run is measuring requests queueing for a connection.
+set -e
+
+DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+JAR="$DIR/../target/review-tracker-backend-0.0.1-SNAPSHOT.jar"
+PORT="${PORT:-18080}"
+CLIENTS="${1:-500}"
+SECONDS_="${2:-60}"
+READY_TIMEOUT="${READY_TIMEOUT:-120}"
+POOL_SIZE="${POOL_SIZE:-$CLIENTS}"
+
+run() {
+  echo "== VIRTUAL_THREADS=$1 pool=$POOL_SIZE"
+  VIRTUAL_THREADS="$1" java -jar "$JAR" --server.port="$PORT" --app.mongo.pool.max-size="$POOL_SIZE" \
+    > "$DIR/../target/loadtest-server-$1.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null" EXIT
+  local deadline=$((SECONDS + READY_TIMEOUT))
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$SECONDS" -ge "$deadline" ]; then
+      echo "Server not healthy after ${READY_TIMEOUT}s; see target/loadtest-server-$1.log" >&2
+      kill "$pid" 2>/dev/null || true
+      exit 1
+    fi
+    sleep 1
+  done
+  java "$DIR/SearchLoad.java" "http://localhost:$PORT" "$CLIENTS" "$SECONDS_"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run false
+run true
@@ -0,0 +1,119 @@
+package com.vinishchoudhary.reviewtracker.benchmarks;
+
+import com.vinishchoudhary.reviewtracker.api.error.ValidationException;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The string-switch flow logic that DealFlow replaced, kept verbatim as the baseline
+ * for {@link WorkflowBenchmark}.
+ */
+final class LegacyWorkflow {
+    private static final Map<String, List<String>> STEPS = Map.of(
+            "REVIEW_SUBMISSION", List.of("orderedDate", "deliveryDate", "reviewSubmitDate",
+                    "refundFormSubmittedDate", "paymentReceivedDate"),
+            "REVIEW_PUBLISHED", List.of("orderedDate", "deliveryDate", "reviewSubmitDate", "reviewAcceptedDate",
+                    "refundFormSubmittedDate", "paymentReceivedDate"),
+            "RATING_ONLY", List.of("orderedDate", "deliveryDate", "ratingSubmittedDate", "refundFormSubmittedDate",
+                    "paymentReceivedDate"));
+
+    private LegacyWorkflow() {
+    }
+
+    static List<String> stepsFor(String dealType) {
+        List<String> steps = dealType == null ? null : STEPS.get(dealType);
+        return steps != null ? steps : STEPS.get("REVIEW_SUBMISSION");
+    }
+
+    static String computeStatus(Review r) {
+        if (r.getPaymentReceivedDate() != null)
+            return "payment received";
+        if (r.getRefundFormSubmittedDate() != null)
+            return "refund form submitted";
+        String deal = r.getDealType() == null ? "REVIEW_SUBMISSION" : r.getDealType();
+        switch (deal) {
+            case "REVIEW_PUBLISHED":
+                if (r.getReviewAcceptedDate() != null)
+                    return "review accepted";
+                if (r.getReviewSubmitDate() != null)
+                    return "review submitted";
+                break;
+            case "RATING_ONLY":
+                if (r.getRatingSubmittedDate() != null)
+                    return "rating submitted";
+                break;
+            default: // REVIEW_SUBMISSION
+                if (r.getReviewSubmitDate() != null)
+                    return "review submitted";
+        }
+        if (r.getDeliveryDate() != null)
+            return "delivered";
+        if (r.getOrderedDate() != null)
+            return "ordered";
+        return "ordered";
+    }
+
+    static void validate(Review r) {
+        LocalDate ordered = r.getOrderedDate();
+        LocalDate delivery = r.getDeliveryDate();
+        check("deliveryDate", delivery, ordered, "orderedDate");
+
+        String dt = r.getDealType() == null ? "REVIEW_SUBMISSION" : r.getDealType();
+        switch (dt) {
+            case "REVIEW_PUBLISHED":
+                check("reviewSubmitDate", r.getReviewSubmitDate(), delivery, "deliveryDate");
+                check("reviewAcceptedDate", r.getReviewAcceptedDate(), r.getReviewSubmitDate(), "reviewSubmitDate");
+                check("refundFormSubmittedDate", r.getRefundFormSubmittedDate(), r.getReviewAcceptedDate(), "reviewAcceptedDate");
+                check("paymentReceivedDate", r.getPaymentReceivedDate(), r.getRefundFormSubmittedDate(), "refundFormSubmittedDate");
+                break;
+            case "RATING_ONLY":
+                check("ratingSubmittedDate", r.getRatingSubmittedDate(), delivery, "deliveryDate");
+                check("refundFormSubmittedDate", r.getRefundFormSubmittedDate(), r.getRatingSubmittedDate(), "ratingSubmittedDate");
+                check("paymentReceivedDate", r.getPaymentReceivedDate(), r.getRefundFormSubmittedDate(), "refundFormSubmittedDate");
+                break;
+            default: // REVIEW_SUBMISSION
+                check("reviewSubmitDate", r.getReviewSubmitDate(), delivery, "deliveryDate");
+                check("refundFormSubmittedDate", r.getRefundFormSubmittedDate(), r.getReviewSubmitDate(), "reviewSubmitDate");
+                check("paymentReceivedDate", r.getPaymentReceivedDate(), r.getRefundFormSubmittedDate(), "refundFormSubmittedDate");
+        }
+    }
+
+    private static void check(String name, LocalDate actual, LocalDate min, String minName) {
+        if (actual != null && min != null && actual.isBefore(min)) {
+            throw new ValidationException(name + " must be >= " + minName);
+        }
+    }
+
+    static String nextFieldFor(Review r) {
+        for (String f : stepsFor(r.getDealType())) {
+            LocalDate v = getField(r, f);
+            if (v == null)
+                return f;
+        }
+        return null;
+    }
+
+    static LocalDate getField(Review r, String field) {
+        switch (field) {
+            case "orderedDate":
+                return r.getOrderedDate();
+            case "deliveryDate":
+                return r.getDeliveryDate();
+            case "reviewSubmitDate":
+                return r.getReviewSubmitDate();
+            case "reviewAcceptedDate":
+                return r.getReviewAcceptedDate();
+            case "ratingSubmittedDate":
+                return r.getRatingSubmittedDate();
+            case "refundFormSubmittedDate":
+                return r.getRefundFormSubmittedDate();
+            case "paymentReceivedDate":
+                return r.getPaymentReceivedDate();
+            default:
+                return null;
+        }
+    }
+}
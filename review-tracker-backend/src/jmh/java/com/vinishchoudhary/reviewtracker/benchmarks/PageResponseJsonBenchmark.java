@@ -0,0 +1,56 @@
+package com.vinishchoudhary.reviewtracker.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vinishchoudhary.reviewtracker.api.dto.PageResponse;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing one page of reviews as the search endpoints return it, with the
+ * mapper configured like the application's (ISO dates). {@code pageSize} runs up
+ * to the 500-row cap on paged reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageResponseJsonBenchmark {
+
+    @Param({"20", "100", "500"})
+    int pageSize;
+
+    PageResponse<Review> page;
+    ObjectWriter writer;
+
+    @Setup
+    public void setup() {
+        List<Review> rows = Reviews.generate(pageSize);
+        page = new PageResponse<>(rows, 0, pageSize, 100_000, 100_000 / pageSize, "createdAt", "DESC");
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+}
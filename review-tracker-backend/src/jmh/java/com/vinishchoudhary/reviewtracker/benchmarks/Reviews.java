@@ -0,0 +1,69 @@
+package com.vinishchoudhary.reviewtracker.benchmarks;
+
+import com.vinishchoudhary.reviewtracker.domain.model.DealFlow;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic reviews for benchmarks: deal types and progress spread evenly, dates in
+ * order, fixed seed so every run sees the same data.
+ */
+public final class Reviews {
+    private static final String[] DEAL_TYPES = DealFlow.all().keySet().toArray(new String[0]);
+    private static final String[] WORDS = {"wireless", "earbuds", "steel", "bottle", "cotton", "shirt", "laptop",
+            "stand", "organic", "green", "tea", "kitchen", "knife", "set", "running", "shoes"};
+
+    private Reviews() {
+    }
+
+    public static List<Review> generate(int n) {
+        Random rnd = new Random(42);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        List<Review> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String dealType = DEAL_TYPES[rnd.nextInt(DEAL_TYPES.length)];
+            BigDecimal amount = BigDecimal.valueOf(200 + rnd.nextInt(5000));
+            BigDecimal less = BigDecimal.valueOf(rnd.nextInt(100));
+            Review r = Review.builder()
+                    .id(String.format("%024x", i))
+                    .orderId("OD" + (100000000L + i))
+                    .productName(WORDS[rnd.nextInt(WORDS.length)] + " " + WORDS[rnd.nextInt(WORDS.length)] + " "
+                            + WORDS[rnd.nextInt(WORDS.length)])
+                    .dealType(dealType)
+                    .platformId("p" + rnd.nextInt(5))
+                    .mediatorId("m" + rnd.nextInt(20))
+                    .amountRupees(amount)
+                    .lessRupees(less)
+                    .refundAmountRupees(amount.subtract(less))
+                    .build();
+            List<String> steps = DealFlow.stepsFor(dealType);
+            int reached = rnd.nextInt(steps.size() + 1);
+            LocalDate d = start.plusDays(rnd.nextInt(365));
+            for (int s = 0; s < reached; s++) {
+                set(r, steps.get(s), d);
+                d = d.plusDays(1 + rnd.nextInt(10));
+            }
+            r.setStatus(DealFlow.statusOf(r));
+            out.add(r);
+        }
+        return out;
+    }
+
+    private static void set(Review r, String field, LocalDate d) {
+        switch (field) {
+            case "orderedDate" -> r.setOrderedDate(d);
+            case "deliveryDate" -> r.setDeliveryDate(d);
+            case "reviewSubmitDate" -> r.setReviewSubmitDate(d);
+            case "reviewAcceptedDate" -> r.setReviewAcceptedDate(d);
+            case "ratingSubmittedDate" -> r.setRatingSubmittedDate(d);
+            case "refundFormSubmittedDate" -> r.setRefundFormSubmittedDate(d);
+            case "paymentReceivedDate" -> r.setPaymentReceivedDate(d);
+            default -> throw new IllegalArgumentException(field);
+        }
+    }
+}
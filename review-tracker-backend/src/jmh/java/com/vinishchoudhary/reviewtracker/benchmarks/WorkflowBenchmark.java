@@ -0,0 +1,127 @@
+package com.vinishchoudhary.reviewtracker.benchmarks;
+
+import com.vinishchoudhary.reviewtracker.domain.model.DealFlow;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.domain.model.Step;
+import com.vinishchoudhary.reviewtracker.domain.validation.DateChainValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-pass cost of the deal-flow operations on the hot paths, old string switches
+ * ({@link LegacyWorkflow}) against {@link DealFlow}: status on import and dashboard
+ * rebuilds, validation plus status on writes, next step on advance, status and next
+ * step together ({@link DealFlow#progress}), and the date
+ * lookup notification rules do per review. {@code dateChainValidator} is the
+ * validator bean's entry point as the service layer sees it. Each op walks the whole dataset; divide
+ * by {@code size} for the per-review figure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkflowBenchmark {
+    private static final String[] RULE_FIELDS = {"orderedDate", "deliveryDate", "reviewSubmitDate",
+            "refundFormSubmittedDate"};
+    private static final Step[] RULE_STEPS = Arrays.stream(RULE_FIELDS).map(Step::forField).toArray(Step[]::new);
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Review> reviews;
+    private final DateChainValidator validator = new DateChainValidator();
+
+    @Setup
+    public void setup() {
+        reviews = Reviews.generate(size);
+    }
+
+    @Benchmark
+    public void statusLegacy(Blackhole bh) {
+        for (Review r : reviews)
+            bh.consume(LegacyWorkflow.computeStatus(r));
+    }
+
+    @Benchmark
+    public void statusFlow(Blackhole bh) {
+        for (Review r : reviews)
+            bh.consume(DealFlow.statusOf(r));
+    }
+
+    @Benchmark
+    public void validateAndStatusLegacy(Blackhole bh) {
+        for (Review r : reviews) {
+            LegacyWorkflow.validate(r);
+            bh.consume(LegacyWorkflow.computeStatus(r));
+        }
+    }
+
+    @Benchmark
+    public void validateAndStatusFlow(Blackhole bh) {
+        for (Review r : reviews)
+            bh.consume(DealFlow.of(r).validatedStatus(r));
+    }
+
+    @Benchmark
+    public void dateChainValidator() {
+        for (Review r : reviews)
+            validator.validate(r);
+    }
+
+    @Benchmark
+    public void nextStepLegacy(Blackhole bh) {
+        for (Review r : reviews)
+            bh.consume(LegacyWorkflow.nextFieldFor(r));
+    }
+
+    @Benchmark
+    public void nextStepFlow(Blackhole bh) {
+        for (Review r : reviews)
+            bh.consume(DealFlow.of(r).next(r));
+    }
+
+    @Benchmark
+    public void statusAndNextLegacy(Blackhole bh) {
+        for (Review r : reviews) {
+            bh.consume(LegacyWorkflow.computeStatus(r));
+            bh.consume(LegacyWorkflow.nextFieldFor(r));
+        }
+    }
+
+    @Benchmark
+    public void statusAndNextFlow(Blackhole bh) {
+        for (Review r : reviews)
+            bh.consume(DealFlow.of(r).progress(r));
+    }
+
+    @Benchmark
+    public void ruleDatesLegacy(Blackhole bh) {
+        for (Review r : reviews)
+            for (String f : RULE_FIELDS)
+                bh.consume(LegacyWorkflow.getField(r, f));
+    }
+
+    @Benchmark
+    public void ruleDatesFlow(Blackhole bh) {
+        // rules resolve their fields once (NotificationService.RuleMatcher), not per review
+        for (Review r : reviews)
+            for (Step s : RULE_STEPS)
+                bh.consume(s.get(r));
+    }
+}
@@ -0,0 +1,64 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.benchmarks.Reviews;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV export rows and import line parsing in ReviewService, without I/O. Lives in
+ * the service package to reach the package-private helpers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Review> reviews;
+    List<String> lines;
+    Map<String, String> platformNames;
+    Map<String, String> mediatorNames;
+
+    @Setup
+    public void setup() {
+        reviews = Reviews.generate(size);
+        platformNames = Map.of("p0", "Amazon", "p1", "Flipkart", "p2", "Myntra", "p3", "Meesho", "p4", "Ajio, Reliance");
+        mediatorNames = Map.of("m0", "Deals \"Hub\"", "m1", "Refund Club");
+        lines = new ArrayList<>(size);
+        for (Review r : reviews)
+            lines.add(ReviewService.toCsvRow(ReviewService.toCsvFields(r, platformNames, mediatorNames)));
+    }
+
+    @Benchmark
+    public void toCsvRow(Blackhole bh) {
+        for (Review r : reviews)
+            bh.consume(ReviewService.toCsvRow(ReviewService.toCsvFields(r, platformNames, mediatorNames)));
+    }
+
+    @Benchmark
+    public void parseCsvLine(Blackhole bh) {
+        for (String line : lines)
+            bh.consume(ReviewService.parseCsvLine(line));
+    }
+}
@@ -0,0 +1,51 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.benchmarks.Reviews;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The dashboard counter fold: what each review contributes, summed the way
+ * DashboardStatsService applies a batch of changes. Totals over the whole
+ * collection are computed in Mongo; this is the per-write in-memory path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardStatsBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Review> reviews;
+
+    @Setup
+    public void setup() {
+        reviews = Reviews.generate(size);
+    }
+
+    @Benchmark
+    public void contributions(Blackhole bh) {
+        DashboardStatsService.Contribution sum = DashboardStatsService.Contribution.ZERO;
+        for (Review r : reviews)
+            sum = sum.plus(DashboardStatsService.Contribution.of(r));
+        bh.consume(sum);
+    }
+}
@@ -0,0 +1,74 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.benchmarks.Reviews;
+import com.vinishchoudhary.reviewtracker.domain.model.NotificationRule;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory rule matching, {@code reviews} × {@code rules} calls of
+ * NotificationService.RuleMatcher.matches, as run when written reviews are
+ * re-evaluated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationRulesBenchmark {
+    private static final String[][] RULE_SHAPES = {
+            {"orderedDate", "deliveryDate", null},
+            {"deliveryDate", "reviewSubmitDate", "payment received"},
+            {"deliveryDate", "ratingSubmittedDate", null},
+            {"reviewSubmitDate", "refundFormSubmittedDate", "payment received"},
+            {"refundFormSubmittedDate", "paymentReceivedDate", null}};
+
+    @Param({"1000", "100000"})
+    int reviews;
+
+    @Param({"1", "10"})
+    int rules;
+
+    List<Review> data;
+    List<NotificationService.RuleMatcher> ruleSet;
+    LocalDate today;
+
+    @Setup
+    public void setup() {
+        data = Reviews.generate(reviews);
+        ruleSet = new ArrayList<>(rules);
+        for (int i = 0; i < rules; i++) {
+            String[] shape = RULE_SHAPES[i % RULE_SHAPES.length];
+            ruleSet.add(NotificationService.RuleMatcher.of(NotificationRule.builder().id("rule" + i)
+                    .triggerField(shape[0]).missingField(shape[1]).excludeStatus(shape[2]).daysAfter(3 + i)
+                    .active(true).build()));
+        }
+        today = LocalDate.of(2025, 1, 1);
+    }
+
+    @Benchmark
+    public int matches() {
+        int hits = 0;
+        for (Review r : data)
+            for (NotificationService.RuleMatcher rule : ruleSet)
+                if (rule.matches(r, today))
+                    hits++;
+        return hits;
+    }
+}
@@ -0,0 +1,52 @@
+package com.vinishchoudhary.reviewtracker.api.controller;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Job;
+import com.vinishchoudhary.reviewtracker.repository.ReviewSearchCriteria;
+import com.vinishchoudhary.reviewtracker.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+    private final JobService jobService;
+
+    @PostMapping("/import")
+    public ResponseEntity<Job> importCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        return ResponseEntity.accepted().body(jobService.submitImport(file));
+    }
+
+    @PostMapping("/export")
+    public ResponseEntity<Job> exportCsv(@RequestBody(required = false) ReviewSearchCriteria criteria)
+            throws IOException {
+        return ResponseEntity.accepted().body(jobService.submitExport(criteria));
+    }
+
+    @GetMapping
+    public List<Job> recent() {
+        return jobService.recent();
+    }
+
+    @GetMapping("/{id}")
+    public Job get(@PathVariable String id) {
+        return jobService.get(id);
+    }
+
+    @GetMapping("/{id}/artifact")
+    public ResponseEntity<Resource> artifact(@PathVariable String id) {
+        Resource file = new FileSystemResource(jobService.artifact(id));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=reviews.csv")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(file);
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import com.vinishchoudhary.reviewtracker.service.LookupService;
+import com.vinishchoudhary.reviewtracker.config.ChangeTracked;
+import com.vinishchoudhary.reviewtracker.service.ChangeVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +19,7 @@ import java.util.List;
 public class LookupController {
     private final LookupService lookupService;
 
+    @ChangeTracked(ChangeVersions.PLATFORMS)
     @GetMapping("/platforms")
     public PageResponse<Platform> platforms(@RequestParam(defaultValue = "0") int page,
                                             @RequestParam(defaultValue = "10") int size,
@@ -35,6 +38,7 @@ public class LookupController {
 
     // Status lookups removed — status is computed and static now
 
+    @ChangeTracked(ChangeVersions.MEDIATORS)
     @GetMapping("/mediators")
     public PageResponse<Mediator> mediators(@RequestParam(defaultValue = "0") int page,
                                             @RequestParam(defaultValue = "10") int size,
@@ -1,15 +1,32 @@
 package com.vinishchoudhary.reviewtracker.api.controller;
 
 import com.vinishchoudhary.reviewtracker.domain.model.*;
+import com.vinishchoudhary.reviewtracker.repository.AmountRange;
+import com.vinishchoudhary.reviewtracker.repository.DateRange;
+import com.vinishchoudhary.reviewtracker.repository.KeysetSlice;
+import com.vinishchoudhary.reviewtracker.repository.ReviewQueryResult;
 import com.vinishchoudhary.reviewtracker.repository.ReviewSearchCriteria;
+import com.vinishchoudhary.reviewtracker.service.DashboardStatsService;
+import com.vinishchoudhary.reviewtracker.service.ReviewListService;
 import com.vinishchoudhary.reviewtracker.service.ReviewService;
 import com.vinishchoudhary.reviewtracker.service.ReviewHistoryService;
+import com.vinishchoudhary.reviewtracker.service.SuggestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import com.vinishchoudhary.reviewtracker.api.dto.BulkResult;
+import com.vinishchoudhary.reviewtracker.api.dto.CursorPageResponse;
+import com.vinishchoudhary.reviewtracker.api.dto.ImportReport;
 import com.vinishchoudhary.reviewtracker.api.dto.PageResponse;
+import com.vinishchoudhary.reviewtracker.api.dto.ReviewListItemDto;
+import com.vinishchoudhary.reviewtracker.api.dto.ReviewQueryResponse;
+import com.vinishchoudhary.reviewtracker.api.dto.Suggestion;
+import com.vinishchoudhary.reviewtracker.api.error.BadRequestException;
+import com.vinishchoudhary.reviewtracker.config.ChangeTracked;
+import com.vinishchoudhary.reviewtracker.service.ChangeVersions;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.*;
@@ -21,6 +38,9 @@ import java.time.LocalDate;
 public class ReviewController {
     private final ReviewService reviewService;
     private final ReviewHistoryService historyService;
+    private final DashboardStatsService dashboardStatsService;
+    private final SuggestService suggestService;
+    private final ReviewListService reviewListService;
 
     // ---------- CRUD ----------
     @PostMapping
@@ -33,6 +53,7 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.updateReview(id, review));
     }
 
+    @ChangeTracked(ChangeVersions.REVIEWS)
     @GetMapping("/{id}")
     public ResponseEntity<Review> get(@PathVariable String id) {
         return reviewService.getReview(id)
@@ -40,16 +61,23 @@ public class ReviewController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @ChangeTracked(ChangeVersions.REVIEWS)
     @GetMapping
-    public List<Review> all(@RequestParam(required = false) String search) {
-        if (search == null || search.isBlank()) {
-            return reviewService.getAllReviews();
-        }
-        ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
-                .productNameContains(search)
-                .build();
-        return reviewService.searchReviews(criteria, PageRequest.of(0, Integer.MAX_VALUE))
-                .getContent();
+    public ResponseEntity<StreamingResponseBody> all(@RequestParam(required = false) String search) {
+        // Streamed from a cursor, since this is the one read with no page size
+        ReviewSearchCriteria criteria = search == null || search.isBlank() ? new ReviewSearchCriteria()
+                : ReviewSearchCriteria.builder().productNameContains(search).build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> reviewService.writeJsonArray(criteria, out));
+    }
+
+    // Typeahead over order IDs and product names
+    @ChangeTracked(ChangeVersions.REVIEWS)
+    @GetMapping("/suggest")
+    public List<Suggestion> suggest(@RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return suggestService.suggest(q, limit);
     }
 
     @DeleteMapping("/{id}")
@@ -78,7 +106,60 @@ public class ReviewController {
         return resp;
     }
 
+    // Keyset (cursor) paging: cost per page does not grow with depth
+    @PostMapping("/search/cursor")
+    public CursorPageResponse<Review> searchCursor(@RequestBody ReviewSearchCriteria criteria,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false, defaultValue = "createdAt") String sort,
+            @RequestParam(required = false, defaultValue = "DESC") String dir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        Sort.Direction direction = "ASC".equalsIgnoreCase(dir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        KeysetSlice<Review> slice = reviewService.scrollReviews(criteria, sort, direction, after, size);
+        return new CursorPageResponse<>(
+                slice.content(),
+                size,
+                slice.next() == null ? null : slice.next().encode(),
+                includeTotal ? reviewService.countReviews(criteria) : null,
+                sort,
+                direction.name());
+    }
+
+    @ChangeTracked(value = ChangeVersions.REVIEWS, daily = true)
+    @GetMapping("/search/cursor")
+    public CursorPageResponse<Review> searchCursorGet(
+            @RequestParam(required = false) String productNameContains,
+            @RequestParam(required = false) String orderIdContains,
+            @RequestParam(required = false) List<String> platformIdIn,
+            @RequestParam(required = false) List<String> mediatorIdIn,
+            @RequestParam(required = false) List<String> statusIn,
+            @RequestParam(required = false) List<String> dealTypeIn,
+            @RequestParam(required = false) Boolean hasRefundFormUrl,
+            @RequestParam(required = false) List<String> dateRange,
+            @RequestParam(required = false) List<String> amountRange,
+            @RequestParam(required = false) Boolean overdue,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false, defaultValue = "createdAt") String sort,
+            @RequestParam(required = false, defaultValue = "DESC") String dir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
+                .productNameContains(emptyToNull(productNameContains))
+                .orderIdContains(emptyToNull(orderIdContains))
+                .platformIdIn(normalizeList(platformIdIn))
+                .mediatorIdIn(normalizeList(mediatorIdIn))
+                .statusIn(normalizeList(statusIn))
+                .dealTypeIn(normalizeList(dealTypeIn))
+                .hasRefundFormUrl(hasRefundFormUrl)
+                .dateRanges(parseDateRanges(dateRange))
+                .amountRanges(parseAmountRanges(amountRange))
+                .overdue(overdue)
+                .build();
+        return searchCursor(criteria, after, size, sort, dir, includeTotal);
+    }
+
     // GET alternative for environments that block POSTs
+    @ChangeTracked(value = ChangeVersions.REVIEWS, daily = true)
     @GetMapping("/search")
     public PageResponse<Review> searchGet(
             @RequestParam(required = false) String productNameContains,
@@ -95,7 +176,10 @@ public class ReviewController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false, defaultValue = "createdAt") String sort,
             @RequestParam(required = false, defaultValue = "DESC") String dir,
-            @RequestParam(required = false) Boolean hasRefundFormUrl) {
+            @RequestParam(required = false) Boolean hasRefundFormUrl,
+            @RequestParam(required = false) List<String> dateRange,
+            @RequestParam(required = false) List<String> amountRange,
+            @RequestParam(required = false) Boolean overdue) {
         ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
                 .platformId(emptyToNull(platformId))
                 .mediatorId(emptyToNull(mediatorId))
@@ -108,6 +192,9 @@ public class ReviewController {
                 .statusIn(normalizeList(statusIn))
                 .dealTypeIn(normalizeList(dealTypeIn))
                 .hasRefundFormUrl(hasRefundFormUrl)
+                .dateRanges(parseDateRanges(dateRange))
+                .amountRanges(parseAmountRanges(amountRange))
+                .overdue(overdue)
                 .build();
         Sort.Direction direction = "ASC".equalsIgnoreCase(dir) ? Sort.Direction.ASC : Sort.Direction.DESC;
         Page<Review> result = reviewService.searchReviews(criteria,
@@ -122,12 +209,124 @@ public class ReviewController {
                 dir);
     }
 
+    // Page, count and totals for the table in one round-trip
+    @PostMapping("/query")
+    public ReviewQueryResponse<Review> query(@RequestBody ReviewSearchCriteria criteria,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false, defaultValue = "createdAt") String sort,
+            @RequestParam(required = false, defaultValue = "DESC") String dir) {
+        Sort.Direction direction = "ASC".equalsIgnoreCase(dir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(direction, sort));
+        ReviewQueryResult result = reviewService.query(criteria, pageable, true);
+        Page<Review> rows = new PageImpl<>(result.content(), pageable, result.total());
+        return new ReviewQueryResponse<>(
+                rows.getContent(),
+                rows.getNumber(),
+                rows.getSize(),
+                rows.getTotalElements(),
+                rows.getTotalPages(),
+                sort,
+                dir,
+                result.totals());
+    }
+
+    @ChangeTracked(value = ChangeVersions.REVIEWS, daily = true)
+    @GetMapping("/query")
+    public ReviewQueryResponse<Review> queryGet(
+            @RequestParam(required = false) String productNameContains,
+            @RequestParam(required = false) String orderIdContains,
+            @RequestParam(required = false) String platformId,
+            @RequestParam(required = false) String mediatorId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String dealType,
+            @RequestParam(required = false) List<String> platformIdIn,
+            @RequestParam(required = false) List<String> mediatorIdIn,
+            @RequestParam(required = false) List<String> statusIn,
+            @RequestParam(required = false) List<String> dealTypeIn,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false, defaultValue = "createdAt") String sort,
+            @RequestParam(required = false, defaultValue = "DESC") String dir,
+            @RequestParam(required = false) Boolean hasRefundFormUrl,
+            @RequestParam(required = false) List<String> dateRange,
+            @RequestParam(required = false) List<String> amountRange,
+            @RequestParam(required = false) Boolean overdue) {
+        ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
+                .platformId(emptyToNull(platformId))
+                .mediatorId(emptyToNull(mediatorId))
+                .status(emptyToNull(status))
+                .dealType(emptyToNull(dealType))
+                .productNameContains(emptyToNull(productNameContains))
+                .orderIdContains(emptyToNull(orderIdContains))
+                .platformIdIn(normalizeList(platformIdIn))
+                .mediatorIdIn(normalizeList(mediatorIdIn))
+                .statusIn(normalizeList(statusIn))
+                .dealTypeIn(normalizeList(dealTypeIn))
+                .hasRefundFormUrl(hasRefundFormUrl)
+                .dateRanges(parseDateRanges(dateRange))
+                .amountRanges(parseAmountRanges(amountRange))
+                .overdue(overdue)
+                .build();
+        return query(criteria, page, size, sort, dir);
+    }
+
+    // Table rows with only the view's columns; names resolved server-side
+    @ChangeTracked(value = { ChangeVersions.REVIEWS, ChangeVersions.VIEW_PRESETS, ChangeVersions.PLATFORMS,
+            ChangeVersions.MEDIATORS }, daily = true)
+    @GetMapping("/list")
+    public PageResponse<ReviewListItemDto> list(
+            @RequestParam(required = false) String productNameContains,
+            @RequestParam(required = false) String orderIdContains,
+            @RequestParam(required = false) List<String> platformIdIn,
+            @RequestParam(required = false) List<String> mediatorIdIn,
+            @RequestParam(required = false) List<String> statusIn,
+            @RequestParam(required = false) List<String> dealTypeIn,
+            @RequestParam(required = false) Boolean hasRefundFormUrl,
+            @RequestParam(required = false) List<String> dateRange,
+            @RequestParam(required = false) List<String> amountRange,
+            @RequestParam(required = false) Boolean overdue,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false, defaultValue = "createdAt") String sort,
+            @RequestParam(required = false, defaultValue = "DESC") String dir) {
+        ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
+                .productNameContains(emptyToNull(productNameContains))
+                .orderIdContains(emptyToNull(orderIdContains))
+                .platformIdIn(normalizeList(platformIdIn))
+                .mediatorIdIn(normalizeList(mediatorIdIn))
+                .statusIn(normalizeList(statusIn))
+                .dealTypeIn(normalizeList(dealTypeIn))
+                .hasRefundFormUrl(hasRefundFormUrl)
+                .dateRanges(parseDateRanges(dateRange))
+                .amountRanges(parseAmountRanges(amountRange))
+                .overdue(overdue)
+                .build();
+        List<String> cols = normalizeList(columns);
+        if (cols == null && view != null && !view.isBlank())
+            cols = reviewListService.presetColumns(view);
+        Sort.Direction direction = "ASC".equalsIgnoreCase(dir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Page<ReviewListItemDto> result = reviewListService.list(criteria,
+                PageRequest.of(page, size, Sort.by(direction, sort)), cols);
+        return new PageResponse<>(
+                result.getContent(),
+                result.getNumber(),
+                result.getSize(),
+                result.getTotalElements(),
+                result.getTotalPages(),
+                sort,
+                dir);
+    }
+
     @PostMapping("/aggregates")
     public ResponseEntity<Map<String, Object>> aggregates(@RequestBody ReviewSearchCriteria criteria) {
         return ResponseEntity.ok(reviewService.aggregates(criteria));
     }
 
     // GET alternative for aggregates
+    @ChangeTracked(value = ChangeVersions.REVIEWS, daily = true)
     @GetMapping("/aggregates")
     public ResponseEntity<Map<String, Object>> aggregatesGet(
             @RequestParam(required = false) String productNameContains,
@@ -136,7 +335,10 @@ public class ReviewController {
             @RequestParam(required = false) List<String> mediatorIdIn,
             @RequestParam(required = false) List<String> statusIn,
             @RequestParam(required = false) List<String> dealTypeIn,
-            @RequestParam(required = false) Boolean hasRefundFormUrl) {
+            @RequestParam(required = false) Boolean hasRefundFormUrl,
+            @RequestParam(required = false) List<String> dateRange,
+            @RequestParam(required = false) List<String> amountRange,
+            @RequestParam(required = false) Boolean overdue) {
         ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
                 .productNameContains(emptyToNull(productNameContains))
                 .orderIdContains(emptyToNull(orderIdContains))
@@ -145,6 +347,9 @@ public class ReviewController {
                 .statusIn(normalizeList(statusIn))
                 .dealTypeIn(normalizeList(dealTypeIn))
                 .hasRefundFormUrl(hasRefundFormUrl)
+                .dateRanges(parseDateRanges(dateRange))
+                .amountRanges(parseAmountRanges(amountRange))
+                .overdue(overdue)
                 .build();
         return ResponseEntity.ok(reviewService.aggregates(criteria));
     }
@@ -153,6 +358,38 @@ public class ReviewController {
         return (s == null || s.isBlank()) ? null : s;
     }
 
+    // Query-string form field:from..to, e.g. deliveryDate:2024-01-01..2024-03-31
+    private static List<DateRange> parseDateRanges(List<String> in) {
+        List<String> specs = normalizeList(in);
+        if (specs == null)
+            return null;
+        List<DateRange> ranges = new ArrayList<>();
+        for (String spec : specs) {
+            try {
+                ranges.add(DateRange.parse(spec));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(e.getMessage());
+            }
+        }
+        return ranges;
+    }
+
+    // Query-string form field:min..max, e.g. amountRupees:500..2000
+    private static List<AmountRange> parseAmountRanges(List<String> in) {
+        List<String> specs = normalizeList(in);
+        if (specs == null)
+            return null;
+        List<AmountRange> ranges = new ArrayList<>();
+        for (String spec : specs) {
+            try {
+                ranges.add(AmountRange.parse(spec));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(e.getMessage());
+            }
+        }
+        return ranges;
+    }
+
     private static List<String> normalizeList(List<String> in) {
         if (in == null)
             return null;
@@ -205,7 +442,7 @@ public class ReviewController {
     }
 
     @PostMapping("/bulk-advance")
-    public ResponseEntity<List<Review>> bulkAdvance(@RequestBody AdvanceRequest body) {
+    public ResponseEntity<BulkResult> bulkAdvance(@RequestBody AdvanceRequest body) {
         if (body == null || body.ids == null || body.ids.isEmpty())
             return ResponseEntity.badRequest().build();
         LocalDate when = null;
@@ -216,36 +453,76 @@ public class ReviewController {
 
     // ---------- Bulk ----------
     @PostMapping("/bulk-update")
-    public ResponseEntity<List<Review>> bulkUpdate(@RequestBody Map<String, Object> body) {
+    public ResponseEntity<BulkResult> bulkUpdate(@RequestBody Map<String, Object> body) {
         List<String> ids = (List<String>) body.get("ids");
         Map<String, Object> updates = (Map<String, Object>) body.get("updates");
         return ResponseEntity.ok(reviewService.bulkUpdate(ids, updates));
     }
 
     @PostMapping("/bulk-delete")
-    public ResponseEntity<Void> bulkDelete(@RequestBody List<String> ids) {
-        reviewService.bulkDelete(ids);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<BulkResult> bulkDelete(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(reviewService.bulkDelete(ids));
     }
 
     // ---------- History ----------
+    @ChangeTracked(ChangeVersions.REVIEW_HISTORY)
     @GetMapping("/{id}/history")
     public ResponseEntity<List<ReviewHistory>> history(@PathVariable String id) {
         return ResponseEntity.ok(historyService.getHistory(id));
     }
 
     // ---------- CSV ----------
+    // Export accepts the same filters as search; rows are streamed from a Mongo cursor
     @GetMapping(value = "/export", produces = "text/csv")
-    public ResponseEntity<String> exportCsv() {
-        return ResponseEntity.ok(reviewService.exportCsv());
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam(required = false) String productNameContains,
+            @RequestParam(required = false) String orderIdContains,
+            @RequestParam(required = false) String platformId,
+            @RequestParam(required = false) String mediatorId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String dealType,
+            @RequestParam(required = false) List<String> platformIdIn,
+            @RequestParam(required = false) List<String> mediatorIdIn,
+            @RequestParam(required = false) List<String> statusIn,
+            @RequestParam(required = false) List<String> dealTypeIn,
+            @RequestParam(required = false) Boolean hasRefundFormUrl,
+            @RequestParam(required = false) List<String> dateRange,
+            @RequestParam(required = false) List<String> amountRange,
+            @RequestParam(required = false) Boolean overdue) {
+        ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
+                .platformId(emptyToNull(platformId))
+                .mediatorId(emptyToNull(mediatorId))
+                .status(emptyToNull(status))
+                .dealType(emptyToNull(dealType))
+                .productNameContains(emptyToNull(productNameContains))
+                .orderIdContains(emptyToNull(orderIdContains))
+                .platformIdIn(normalizeList(platformIdIn))
+                .mediatorIdIn(normalizeList(mediatorIdIn))
+                .statusIn(normalizeList(statusIn))
+                .dealTypeIn(normalizeList(dealTypeIn))
+                .hasRefundFormUrl(hasRefundFormUrl)
+                .dateRanges(parseDateRanges(dateRange))
+                .amountRanges(parseAmountRanges(amountRange))
+                .overdue(overdue)
+                .build();
+        return exportCsvPost(criteria);
+    }
+
+    @PostMapping(value = "/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportCsvPost(@RequestBody ReviewSearchCriteria criteria) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews.csv\"")
+                .contentType(new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8))
+                .body(out -> reviewService.exportCsv(criteria, out));
     }
 
     @PostMapping("/import")
-    public ResponseEntity<List<Review>> importCsv(@RequestParam("file") MultipartFile file) throws IOException {
+    public ResponseEntity<ImportReport> importCsv(@RequestParam("file") MultipartFile file) throws IOException {
         return ResponseEntity.ok(reviewService.importCsv(file));
     }
 
     // ---------- Metrics (MVP) ----------
+    @ChangeTracked(value = ChangeVersions.REVIEWS, daily = true)
     @GetMapping("/metrics/overdue-count")
     public ResponseEntity<java.util.Map<String, Long>> overdueCount() {
         long c = reviewService.overdueCount();
@@ -253,8 +530,15 @@ public class ReviewController {
     }
 
     // ---------- Dashboard ----------
+    @ChangeTracked(value = ChangeVersions.REVIEWS, daily = true)
     @GetMapping("/dashboard-stats")
     public ResponseEntity<com.vinishchoudhary.reviewtracker.api.dto.DashboardStats> getDashboardStats() {
-        return ResponseEntity.ok(reviewService.getDashboardStats());
+        return ResponseEntity.ok(dashboardStatsService.getDashboardStats());
+    }
+
+    // Rebuilds the persisted dashboard counters from scratch
+    @PostMapping("/dashboard-stats/reconcile")
+    public ResponseEntity<com.vinishchoudhary.reviewtracker.api.dto.DashboardStats> reconcileDashboardStats() {
+        return ResponseEntity.ok(dashboardStatsService.reconcile());
     }
 }
@@ -2,6 +2,8 @@ package com.vinishchoudhary.reviewtracker.api.controller;
 
 import com.vinishchoudhary.reviewtracker.domain.model.ViewPreset;
 import com.vinishchoudhary.reviewtracker.repository.ViewPresetRepository;
+import com.vinishchoudhary.reviewtracker.config.ChangeTracked;
+import com.vinishchoudhary.reviewtracker.service.ChangeVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,7 +17,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ViewPresetController {
     private final ViewPresetRepository repo;
+    private final ChangeVersions changeVersions;
 
+    @ChangeTracked(ChangeVersions.VIEW_PRESETS)
     @GetMapping
     public List<ViewPreset> all() { return repo.findAll(); }
 
@@ -24,12 +28,15 @@ public class ViewPresetController {
         // If id present, will update; else create
         if (preset.getName() == null || preset.getName().isBlank())
             return ResponseEntity.badRequest().build();
-        return ResponseEntity.ok(repo.save(preset));
+        ViewPreset saved = repo.save(preset);
+        changeVersions.bump(ChangeVersions.VIEW_PRESETS);
+        return ResponseEntity.ok(saved);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable String id) {
         repo.deleteById(id);
+        changeVersions.bump(ChangeVersions.VIEW_PRESETS);
         return ResponseEntity.noContent().build();
     }
 
@@ -41,18 +48,23 @@ public class ViewPresetController {
             vp.setSlug(generateSlug());
         }
         vp.setShared(true);
-        return ResponseEntity.ok(repo.save(vp));
+        ViewPreset saved = repo.save(vp);
+        changeVersions.bump(ChangeVersions.VIEW_PRESETS);
+        return ResponseEntity.ok(saved);
     }
 
     @PostMapping("/{id}/unshare")
     public ResponseEntity<ViewPreset> unshare(@PathVariable String id) {
         ViewPreset vp = repo.findById(id).orElseThrow();
         vp.setShared(false);
-        return ResponseEntity.ok(repo.save(vp));
+        ViewPreset saved = repo.save(vp);
+        changeVersions.bump(ChangeVersions.VIEW_PRESETS);
+        return ResponseEntity.ok(saved);
     }
 
     record SharedViewDto(String name, Map<String,Object> config) {}
 
+    @ChangeTracked(ChangeVersions.VIEW_PRESETS)
     @GetMapping("/shared/{slug}")
     public ResponseEntity<SharedViewDto> getShared(@PathVariable String slug) {
         ViewPreset vp = repo.findBySlug(slug).orElse(null);
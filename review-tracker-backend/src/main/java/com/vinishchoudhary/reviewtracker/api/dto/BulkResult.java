@@ -0,0 +1,44 @@
+package com.vinishchoudhary.reviewtracker.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-id outcome of a bulk advance, update or delete. Ids are reported in the
+ * order they were requested; a conflict means the review changed between our
+ * read and the write and was left untouched.
+ */
+@Data
+@NoArgsConstructor
+public class BulkResult {
+    public static final String OK = "OK";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String INVALID = "INVALID";
+
+    private int succeeded;
+    private int failed;
+    private List<Item> results = new ArrayList<>();
+
+    public void add(String id, String status, String message) {
+        if (OK.equals(status) || UNCHANGED.equals(status))
+            succeeded++;
+        else
+            failed++;
+        results.add(new Item(id, status, message));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String id;
+        private String status; // OK | UNCHANGED | CONFLICT | NOT_FOUND | INVALID
+        private String message;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vinishchoudhary.reviewtracker.api.dto;
+
+import java.util.List;
+
+/**
+ * Keyset-paged counterpart of {@link PageResponse}. Pass {@code next} back as
+ * {@code after} to fetch the following page; {@code totalElements} is only
+ * populated when explicitly requested.
+ */
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private String next;
+    private boolean hasNext;
+    private Long totalElements;
+    private String sort;
+    private String dir;
+
+    public CursorPageResponse() {}
+
+    public CursorPageResponse(List<T> content, int size, String next, Long totalElements, String sort, String dir) {
+        this.content = content;
+        this.size = size;
+        this.next = next;
+        this.hasNext = next != null;
+        this.totalElements = totalElements;
+        this.sort = sort;
+        this.dir = dir;
+    }
+
+    public List<T> getContent() { return content; }
+    public int getSize() { return size; }
+    public String getNext() { return next; }
+    public boolean isHasNext() { return hasNext; }
+    public Long getTotalElements() { return totalElements; }
+    public String getSort() { return sort; }
+    public String getDir() { return dir; }
+
+    public void setContent(List<T> content) { this.content = content; }
+    public void setSize(int size) { this.size = size; }
+    public void setNext(String next) { this.next = next; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+    public void setSort(String sort) { this.sort = sort; }
+    public void setDir(String dir) { this.dir = dir; }
+}
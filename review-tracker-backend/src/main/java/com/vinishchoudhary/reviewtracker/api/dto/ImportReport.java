@@ -0,0 +1,45 @@
+package com.vinishchoudhary.reviewtracker.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a CSV import. Rows that fail are reported individually instead of
+ * aborting the import; only the first {@link #MAX_REPORTED_ERRORS} are listed,
+ * the counters are always exact.
+ */
+@Data
+@NoArgsConstructor
+public class ImportReport {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addImported(long n) {
+        imported += n;
+    }
+
+    public void addError(long line, String orderId, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS)
+            errors.add(new RowError(line, orderId, message));
+        else
+            errorsTruncated = true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line; // 1-based line number in the file, header is line 1
+        private String orderId;
+        private String message;
+    }
+}
@@ -0,0 +1,22 @@
+package com.vinishchoudhary.reviewtracker.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationItem {
+    private String id;
+    private String reviewId;
+    private String orderId;
+    private String type; // URGENT | INFO | WARNING
+    private String title;
+    private String message;
+    private String actionUrl;
+    private long days; // days since the rule's trigger date
+    private boolean read;
+}
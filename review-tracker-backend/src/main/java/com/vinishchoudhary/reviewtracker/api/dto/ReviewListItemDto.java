@@ -1,34 +1,42 @@
 package com.vinishchoudhary.reviewtracker.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * One review table row. Only the columns the view asked for are set; the rest are
+ * null and left out of the JSON.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ReviewListItemDto {
     private String id;
     private String orderId;
+    private String orderLink;
     private String productName;
-    private String statusId;
-    private String statusName;
+    private String dealType;
+    private String status;
     private String platformId;
     private String platformName;
+    private String mediatorId;
+    private String mediatorName;
+    private String mediatorPhone;
     private BigDecimal amountRupees;
     private BigDecimal lessRupees;
     private BigDecimal refundAmountRupees;
-    private String mediatorId;
-    private String mediatorName;
-    private String mediatorWaLink;
     private LocalDate orderedDate;
     private LocalDate deliveryDate;
     private LocalDate reviewSubmitDate;
+    private LocalDate reviewAcceptedDate;
+    private LocalDate ratingSubmittedDate;
     private LocalDate refundFormSubmittedDate;
     private LocalDate paymentReceivedDate;
-    private String orderLink;
+    private String refundFormUrl;
 }
-
@@ -0,0 +1,24 @@
+package com.vinishchoudhary.reviewtracker.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link PageResponse} plus totals over every matching review, not just the page:
+ * count, totalAmount, totalRefund and totalPendingRefund.
+ */
+public class ReviewQueryResponse<T> extends PageResponse<T> {
+    private Map<String, Object> totals;
+
+    public ReviewQueryResponse() {}
+
+    public ReviewQueryResponse(List<T> content, int page, int size, long totalElements, int totalPages, String sort,
+                               String dir, Map<String, Object> totals) {
+        super(content, page, size, totalElements, totalPages, sort, dir);
+        this.totals = totals;
+    }
+
+    public Map<String, Object> getTotals() { return totals; }
+
+    public void setTotals(Map<String, Object> totals) { this.totals = totals; }
+}
@@ -0,0 +1,5 @@
+package com.vinishchoudhary.reviewtracker.api.dto;
+
+/** One typeahead hit; {@code matched} is the field that matched: orderId or productName. */
+public record Suggestion(String id, String orderId, String productName, String matched) {
+}
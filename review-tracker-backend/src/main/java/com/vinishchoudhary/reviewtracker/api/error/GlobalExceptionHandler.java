@@ -1,6 +1,7 @@
 package com.vinishchoudhary.reviewtracker.api.error;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -43,4 +44,10 @@ class GlobalExceptionHandler {
         var dto = new ErrorDto(Instant.now(), 409, "Conflict", "The review was modified by someone else. Please refresh and try again.", req.getRequestURI(), List.of());
         return ResponseEntity.status(409).body(dto);
     }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    ResponseEntity<ErrorDto> handleRejected(TaskRejectedException ex, HttpServletRequest req) {
+        var dto = new ErrorDto(Instant.now(), 503, "Service Unavailable", "Job queue is full. Please try again later.", req.getRequestURI(), List.of());
+        return ResponseEntity.status(503).body(dto);
+    }
 }
@@ -0,0 +1,21 @@
+package com.vinishchoudhary.reviewtracker.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response only changes when the named collections do
+ * (see {@link com.vinishchoudhary.reviewtracker.service.ChangeVersions}). The handler
+ * is skipped with a 304 when the request's If-None-Match still matches.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ChangeTracked {
+    /** Collection names, as in ChangeVersions. */
+    String[] value();
+
+    /** The response also depends on today's date (day counts, overdue). */
+    boolean daily() default false;
+}
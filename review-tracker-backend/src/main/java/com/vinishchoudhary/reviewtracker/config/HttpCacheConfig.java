@@ -0,0 +1,61 @@
+package com.vinishchoudhary.reviewtracker.config;
+
+import com.vinishchoudhary.reviewtracker.service.ChangeVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP caching: entity tags for {@link ChangeTracked} API reads, and cache lifetimes
+ * for the bundled SPA. Vite fingerprints everything under /assets (and the workbox
+ * runtime), so those never change under the same URL; the entry points must always
+ * be revalidated so a deploy is picked up.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HttpCacheConfig implements WebMvcConfigurer {
+    private final ChangeVersions changeVersions;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (!(handler instanceof HandlerMethod method))
+                    return true;
+                ChangeTracked tracked = method.getMethodAnnotation(ChangeTracked.class);
+                if (tracked == null)
+                    return true;
+                // Always revalidate; a match costs no Mongo read
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+                String etag = changeVersions.etag(tracked.value(), tracked.daily());
+                return !new ServletWebRequest(request, response).checkNotModified(etag);
+            }
+        }).addPathPatterns("/api/**");
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        CacheControl immutable = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(immutable);
+        registry.addResourceHandler("/workbox-*.js")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(immutable);
+        registry.addResourceHandler("/index.html", "/sw.js", "/manifest.webmanifest")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.noCache());
+    }
+}
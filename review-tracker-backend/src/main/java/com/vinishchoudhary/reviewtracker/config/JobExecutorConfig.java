@@ -0,0 +1,33 @@
+package com.vinishchoudhary.reviewtracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded pool for import/export jobs so long-running CSV work stays off the
+ * request threads. When the queue is full submissions are rejected. With virtual
+ * threads on, the pool keeps its size as a concurrency limit but its workers are
+ * virtual threads.
+ */
+@Configuration
+public class JobExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor jobExecutor(@Value("${app.jobs.threads:2}") int threads,
+                                              @Value("${app.jobs.queue-capacity:20}") int queueCapacity,
+                                              Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("job-");
+        if (Threading.VIRTUAL.isActive(environment))
+            executor.setThreadFactory(Thread.ofVirtual().name("job-", 1).factory());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -1,9 +1,46 @@
 package com.vinishchoudhary.reviewtracker.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions.BigDecimalRepresentation;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableMongoAuditing
 public class MongoConfig {
+
+    /**
+     * BigDecimal amounts are stored as Decimal128 rather than the default strings, so
+     * Mongo can sum, range-filter and sort them numerically. Reviews written before
+     * this are rewritten at startup (see {@link StartupMigrations}).
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return MongoCustomConversions.create(conversions -> conversions.bigDecimal(BigDecimalRepresentation.DECIMAL128));
+    }
+
+    /**
+     * Driver connection pool. Under virtual threads the request pool no longer
+     * caps concurrency, so this pool does: requests past {@code max-size} queue for
+     * a connection and fail after {@code max-wait} rather than piling up unbounded.
+     * Applied after the URI, so these settings win over pool options in it.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPool(
+            @Value("${app.mongo.pool.max-size:100}") int maxSize,
+            @Value("${app.mongo.pool.min-size:0}") int minSize,
+            @Value("${app.mongo.pool.max-connecting:2}") int maxConnecting,
+            @Value("${app.mongo.pool.max-wait:10s}") Duration maxWait) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .minSize(minSize)
+                .maxConnecting(maxConnecting)
+                .maxWaitTime(maxWait.toMillis(), TimeUnit.MILLISECONDS));
+    }
 }
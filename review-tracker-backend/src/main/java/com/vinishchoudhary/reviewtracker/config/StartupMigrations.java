@@ -1,26 +1,70 @@
 package com.vinishchoudhary.reviewtracker.config;
 
+import com.vinishchoudhary.reviewtracker.domain.model.DealFlow;
+import com.vinishchoudhary.reviewtracker.domain.model.Job;
+import com.vinishchoudhary.reviewtracker.domain.model.Mediator;
+import com.vinishchoudhary.reviewtracker.domain.model.Notification;
+import com.vinishchoudhary.reviewtracker.domain.model.Platform;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.domain.model.ReviewHistory;
+import com.vinishchoudhary.reviewtracker.repository.ReviewRepository;
+import com.vinishchoudhary.reviewtracker.repository.SearchTokens;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
 /**
  * One-time lightweight startup migrations.
  * - Backfill missing version field on reviews to 0 for optimistic locking.
+ * - Backfill searchTokens/searchName/orderIdKey on reviews written before quick search used them.
+ * - Backfill createdAt/updatedAt on CSV-imported reviews from their ObjectId time.
+ * - Compute status on reviews stored without one, which the overdue count would miss.
+ * - Rewrite string-encoded amounts on older reviews as Decimal128.
+ * - Copy platform and mediator names onto reviews that lack them or hold a stale one.
+ * - Mark import/export jobs left queued or running by a previous process as failed.
+ * - Report indexes that are no longer declared, are a prefix of another index, or
+ *   have not served a query in a long time. Nothing is dropped automatically.
  */
 @Component
 public class StartupMigrations implements ApplicationRunner {
     private static final Logger log = LoggerFactory.getLogger(StartupMigrations.class);
+    private static final int BATCH_SIZE = 500;
+    private static final List<String> MONEY_FIELDS = List.of("amountRupees", "lessRupees", "refundAmountRupees");
+    private static final List<Class<?>> INDEXED_TYPES = List.of(Review.class, ReviewHistory.class,
+            Notification.class, Job.class);
     private final MongoTemplate mongoTemplate;
+    private final ReviewRepository reviewRepo;
+    private final Duration unusedAfter;
 
-    public StartupMigrations(MongoTemplate mongoTemplate) { this.mongoTemplate = mongoTemplate; }
+    public StartupMigrations(MongoTemplate mongoTemplate, ReviewRepository reviewRepo,
+                             @Value("${app.indexes.unused-after:14d}") Duration unusedAfter) {
+        this.mongoTemplate = mongoTemplate;
+        this.reviewRepo = reviewRepo;
+        this.unusedAfter = unusedAfter;
+    }
 
     @Override
     public void run(ApplicationArguments args) {
@@ -33,6 +77,222 @@ public class StartupMigrations implements ApplicationRunner {
         } catch (Exception e) {
             log.warn("Startup migration failed: {}", e.getMessage());
         }
+        try {
+            // Imports once set version 0 before insert, which kept auditing from stamping createdAt
+            Document missing = new Document("createdAt", null).append("_id", new Document("$type", "objectId"));
+            Document idTime = new Document("$toDate", "$_id");
+            long mod = mongoTemplate.getCollection("reviews").updateMany(missing, List.of(new Document("$set",
+                    new Document("createdAt", idTime)
+                            .append("updatedAt", new Document("$ifNull", List.of("$updatedAt", idTime))))))
+                    .getModifiedCount();
+            if (mod > 0) log.info("Backfilled createdAt on {} imported review(s)", mod);
+        } catch (Exception e) {
+            log.warn("createdAt backfill failed: {}", e.getMessage());
+        }
+        try {
+            backfillStatus();
+        } catch (Exception e) {
+            log.warn("Status backfill failed: {}", e.getMessage());
+        }
+        try {
+            backfillSearchTokens();
+        } catch (Exception e) {
+            log.warn("Search token backfill failed: {}", e.getMessage());
+        }
+        try {
+            migrateMoneyToDecimal();
+        } catch (Exception e) {
+            log.warn("Amount migration failed: {}", e.getMessage());
+        }
+        try {
+            syncLookupNames();
+        } catch (Exception e) {
+            log.warn("Lookup name backfill failed: {}", e.getMessage());
+        }
+        try {
+            Query q = new Query(Criteria.where("status").in(Job.QUEUED, Job.RUNNING));
+            Update u = new Update().set("status", Job.FAILED)
+                    .set("message", "Interrupted by restart")
+                    .set("finishedAt", Instant.now());
+            long mod = mongoTemplate.updateMulti(q, u, Job.class).getModifiedCount();
+            if (mod > 0) log.info("Marked {} interrupted job(s) as failed", mod);
+        } catch (Exception e) {
+            log.warn("Job recovery failed: {}", e.getMessage());
+        }
+        for (Class<?> type : INDEXED_TYPES) {
+            try {
+                reconcileIndexes(type);
+            } catch (Exception e) {
+                log.warn("Index reconciliation for {} failed: {}", type.getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void reconcileIndexes(Class<?> type) {
+        String collection = mongoTemplate.getCollectionName(type);
+        Set<String> declared = new HashSet<>();
+        var resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        resolver.resolveIndexFor(type).forEach(d -> declared.add(d.getIndexOptions().getString("name")));
+
+        List<Document> existing = mongoTemplate.getCollection(collection).listIndexes().into(new ArrayList<>());
+        for (Document idx : existing) {
+            String name = idx.getString("name");
+            if ("_id_".equals(name))
+                continue;
+            if (!declared.contains(name))
+                log.warn("Index {}.{} {} is not declared by {}; drop it if nothing else uses it",
+                        collection, name, idx.get("key"), type.getSimpleName());
+            for (Document other : existing) {
+                if (other != idx && isRedundantPrefix(idx, other))
+                    log.warn("Index {}.{} {} is a prefix of {} {} and redundant",
+                            collection, name, idx.get("key"), other.getString("name"), other.get("key"));
+            }
+        }
+
+        // $indexStats counts from the last mongod restart; only a long window says anything
+        Instant cutoff = Instant.now().minus(unusedAfter);
+        List<Document> stats = List.of(new Document("$indexStats", new Document()));
+        for (Document s : mongoTemplate.getCollection(collection).aggregate(stats)) {
+            Document accesses = s.get("accesses", Document.class);
+            Date since = accesses.getDate("since");
+            Number ops = (Number) accesses.get("ops");
+            if (!"_id_".equals(s.getString("name")) && ops.longValue() == 0 && since.toInstant().isBefore(cutoff))
+                log.info("Index {}.{} has not been used since {}", collection, s.getString("name"), since.toInstant());
+        }
+    }
+
+    /**
+     * An index whose keys lead another index in the same order and direction serves
+     * nothing the longer one cannot. Unique, partial and sparse indexes carry more
+     * than their keys and are never reported.
+     */
+    static boolean isRedundantPrefix(Document index, Document other) {
+        if (hasOptions(index) || hasOptions(other))
+            return false;
+        List<Map.Entry<String, Object>> keys = new ArrayList<>(index.get("key", Document.class).entrySet());
+        List<Map.Entry<String, Object>> otherKeys = new ArrayList<>(other.get("key", Document.class).entrySet());
+        if (keys.size() >= otherKeys.size())
+            return false;
+        for (int i = 0; i < keys.size(); i++) {
+            if (!keys.get(i).getKey().equals(otherKeys.get(i).getKey())
+                    || !String.valueOf(keys.get(i).getValue()).equals(String.valueOf(otherKeys.get(i).getValue())))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean hasOptions(Document index) {
+        return index.getBoolean("unique", false) || index.getBoolean("sparse", false)
+                || index.containsKey("partialFilterExpression");
+    }
+
+    /**
+     * Converts amounts in _id order, one batch at a time, with a pipeline update so
+     * the value never leaves the server. Only documents still holding a string are
+     * matched, so concurrent writes are never overwritten and a run cut short by a
+     * restart picks up what is left. Strings that are not numbers are kept as they are.
+     */
+    private void migrateMoneyToDecimal() {
+        Document stringTyped = new Document("$or", MONEY_FIELDS.stream()
+                .map(f -> new Document(f, new Document("$type", "string"))).toList());
+        Document toDecimal = new Document();
+        for (String f : MONEY_FIELDS)
+            toDecimal.append(f, new Document("$convert", new Document("input", "$" + f)
+                    .append("to", "decimal")
+                    .append("onError", "$" + f)
+                    .append("onNull", "$" + f)));
+        List<Document> pipeline = List.of(new Document("$set", toDecimal));
+
+        MongoCollection<Document> reviews = mongoTemplate.getCollection("reviews");
+        Object lastId = null;
+        long done = 0;
+        while (true) {
+            Document filter = lastId == null ? stringTyped
+                    : new Document("$and", List.of(stringTyped, new Document("_id", new Document("$gt", lastId))));
+            List<Object> ids = new ArrayList<>();
+            reviews.find(filter).projection(new Document("_id", 1)).sort(new Document("_id", 1)).limit(BATCH_SIZE)
+                    .forEach(d -> ids.add(d.get("_id")));
+            if (ids.isEmpty())
+                break;
+            done += reviews.updateMany(new Document("$and", List.of(stringTyped,
+                    new Document("_id", new Document("$in", ids)))), pipeline).getModifiedCount();
+            lastId = ids.get(ids.size() - 1);
+        }
+        if (done > 0) log.info("Converted amounts to Decimal128 on {} review(s)", done);
+        long left = reviews.countDocuments(stringTyped);
+        if (left > 0) log.warn("{} review(s) hold amounts that are not numbers and were left as strings", left);
+    }
+
+    // One updateMany per platform and mediator; both sets are small
+    private void syncLookupNames() {
+        long done = 0;
+        List<String> platformIds = new ArrayList<>();
+        for (Platform p : mongoTemplate.findAll(Platform.class)) {
+            platformIds.add(p.getId());
+            done += reviewRepo.updatePlatformName(p.getId(), p.getName());
+        }
+        List<String> mediatorIds = new ArrayList<>();
+        for (Mediator m : mongoTemplate.findAll(Mediator.class)) {
+            mediatorIds.add(m.getId());
+            done += reviewRepo.updateMediatorName(m.getId(), m.getName());
+        }
+        // A deleted lookup leaves its old name behind, which would keep sorting under that name
+        done += mongoTemplate.updateMulti(
+                new Query(Criteria.where("platformName").exists(true).and("platformId").nin(platformIds)),
+                new Update().unset("platformName"), Review.class).getModifiedCount();
+        done += mongoTemplate.updateMulti(
+                new Query(Criteria.where("mediatorName").exists(true).and("mediatorId").nin(mediatorIds)),
+                new Update().unset("mediatorName"), Review.class).getModifiedCount();
+        if (done > 0) log.info("Synced platform/mediator names on {} review(s)", done);
+    }
+
+    // The overdue count goes through the partial deliveryDate_unpaid index, which only holds known statuses
+    private void backfillStatus() {
+        Query q = new Query(Criteria.where("status").is(null));
+        q.cursorBatchSize(BATCH_SIZE);
+        long done = 0;
+        try (Stream<Review> reviews = mongoTemplate.stream(q, Review.class)) {
+            Iterator<Review> it = reviews.iterator();
+            while (it.hasNext()) {
+                BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Review.class);
+                int n = 0;
+                while (it.hasNext() && n < BATCH_SIZE) {
+                    Review r = it.next();
+                    ops.updateOne(new Query(Criteria.where("id").is(r.getId())),
+                            new Update().set("status", DealFlow.statusOf(r)));
+                    n++;
+                }
+                ops.execute();
+                done += n;
+            }
+        }
+        if (done > 0) log.info("Backfilled status on {} review(s)", done);
+    }
+
+    private void backfillSearchTokens() {
+        Query q = new Query(new Criteria().orOperator(Criteria.where("searchName").exists(false),
+                Criteria.where("orderIdKey").exists(false)));
+        q.fields().include("_id", "productName", "orderId");
+        q.cursorBatchSize(BATCH_SIZE);
+        long done = 0;
+        try (Stream<Document> docs = mongoTemplate.stream(q, Document.class, "reviews")) {
+            Iterator<Document> it = docs.iterator();
+            while (it.hasNext()) {
+                BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "reviews");
+                int n = 0;
+                while (it.hasNext() && n < BATCH_SIZE) {
+                    Document d = it.next();
+                    ops.updateOne(new Query(Criteria.where("_id").is(d.get("_id"))),
+                            new Update().set("searchTokens", SearchTokens.index(d.getString("productName")))
+                                    .set("searchName", SearchTokens.text(d.getString("productName")))
+                                    .set("orderIdKey", SearchTokens.orderIdKey(d.getString("orderId"))));
+                    n++;
+                }
+                ops.execute();
+                done += n;
+            }
+        }
+        if (done > 0) log.info("Backfilled search fields on {} review(s)", done);
     }
 }
 
@@ -0,0 +1,48 @@
+package com.vinishchoudhary.reviewtracker.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Persisted running totals behind the dashboard. Kept current with $inc deltas
+ * from every review write; money fields are Decimal128 so they can be incremented.
+ * Every delta also bumps the version, which is what a reconcile guards its write on.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("dashboard_stats")
+public class DashboardCounters {
+    public static final String ID = "dashboard";
+
+    @Id
+    private String id;
+
+    private long totalReviews;
+    private long pendingReviewRating;
+    private long pendingRefundForm;
+    private long pendingPayment;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal totalSpent;
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal totalRefunded;
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal pendingRefundAmount;
+
+    private Instant reconciledAt;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,193 @@
+package com.vinishchoudhary.reviewtracker.domain.model;
+
+import com.vinishchoudhary.reviewtracker.api.error.ValidationException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.vinishchoudhary.reviewtracker.domain.model.Step.*;
+
+/**
+ * The steps each deal type moves through, in order. A review's status is that of
+ * the furthest step in its flow with a date, its next step is the first without
+ * one, and each date must be on or after the one of the step before it. Unknown
+ * or missing deal types follow the REVIEW_SUBMISSION flow.
+ *
+ * <p>Flows are plain rows in {@link #FLOWS}: a new deal type is a name and its
+ * steps, listed in Step's declaration order. Each flow precomputes its
+ * {@link Progress} for every combination of dated steps, so status and next step
+ * are one read of the review's dates ({@link Step#datedMask}) and a table lookup;
+ * validation folds into that read. Nothing below allocates.
+ */
+public final class DealFlow {
+    public static final String DEFAULT_DEAL_TYPE = "REVIEW_SUBMISSION";
+
+    private static final Map<String, DealFlow> FLOWS = index(
+            new DealFlow("REVIEW_SUBMISSION", ORDERED, DELIVERED, REVIEW_SUBMITTED, REFUND_FORM_SUBMITTED,
+                    PAYMENT_RECEIVED),
+            new DealFlow("REVIEW_PUBLISHED", ORDERED, DELIVERED, REVIEW_SUBMITTED, REVIEW_ACCEPTED,
+                    REFUND_FORM_SUBMITTED, PAYMENT_RECEIVED),
+            new DealFlow("RATING_ONLY", ORDERED, DELIVERED, RATING_SUBMITTED, REFUND_FORM_SUBMITTED,
+                    PAYMENT_RECEIVED));
+
+    private static final DealFlow DEFAULT = FLOWS.get(DEFAULT_DEAL_TYPE);
+    private static final DealFlow[] BY_ORDER = FLOWS.values().toArray(new DealFlow[0]);
+    // steps in every flow, and in any flow
+    private static final int SHARED_STEPS = Arrays.stream(BY_ORDER).mapToInt(f -> f.stepMask).reduce(~0, (a, b) -> a & b);
+    private static final int ALL_STEPS = Arrays.stream(BY_ORDER).mapToInt(f -> f.stepMask).reduce(0, (a, b) -> a | b);
+
+    private static final Map<String, List<String>> FIELDS;
+
+    static {
+        Map<String, List<String>> fields = new LinkedHashMap<>();
+        FLOWS.forEach((type, flow) -> fields.put(type, flow.fields));
+        FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    private final String dealType;
+    private final int hash;
+    private final Step[] steps;
+    private final List<String> fields;
+    // indexed by Step.datedMask; only this flow's bits decide the entry
+    private final Progress[] progressByMask;
+    private final int stepMask;
+
+    /** Where a review stands in its flow: its status and the first step without a date (null when done). */
+    public record Progress(String status, Step next) {
+    }
+
+    private DealFlow(String dealType, Step... steps) {
+        this.dealType = dealType;
+        this.hash = dealType.hashCode();
+        this.steps = steps;
+        this.fields = Arrays.stream(steps).map(Step::field).toList();
+        int stepMask = 0;
+        for (int i = 0; i < steps.length; i++) {
+            if (i > 0 && steps[i].ordinal() <= steps[i - 1].ordinal())
+                throw new IllegalArgumentException(dealType + ": steps must follow Step's declaration order");
+            stepMask |= 1 << steps[i].ordinal();
+        }
+        this.stepMask = stepMask;
+        this.progressByMask = new Progress[1 << Step.values().length];
+        for (int mask = 0; mask < progressByMask.length; mask++) {
+            Step reached = null;
+            Step next = null;
+            for (Step s : steps) {
+                if ((mask & 1 << s.ordinal()) != 0)
+                    reached = s;
+                else if (next == null)
+                    next = s;
+            }
+            progressByMask[mask] = new Progress(reached != null ? reached.status() : ORDERED.status(), next);
+        }
+    }
+
+    private static Map<String, DealFlow> index(DealFlow... flows) {
+        Map<String, DealFlow> byType = new LinkedHashMap<>();
+        for (DealFlow f : flows)
+            byType.put(f.dealType, f);
+        return Collections.unmodifiableMap(byType);
+    }
+
+    public static DealFlow of(String dealType) {
+        // A scan of a handful of rows beats a map lookup: the String caches its hash,
+        // so rows of other deal types are rejected by an int compare
+        if (dealType != null) {
+            int hash = dealType.hashCode();
+            for (DealFlow flow : BY_ORDER) {
+                if (flow.hash == hash && flow.dealType.equals(dealType))
+                    return flow;
+            }
+        }
+        return DEFAULT;
+    }
+
+    public static DealFlow of(Review r) {
+        return of(r.getDealType());
+    }
+
+    public static List<String> stepsFor(String dealType) {
+        return of(dealType).fields;
+    }
+
+    /** Date fields of every deal type with its own flow, the default included. */
+    public static Map<String, List<String>> all() {
+        return FIELDS;
+    }
+
+    public String dealType() {
+        return dealType;
+    }
+
+    /**
+     * Status of the review in its own flow, resolving that flow only when it
+     * matters: when the furthest dated step is one every flow has, it is also the
+     * furthest in the review's flow.
+     */
+    public static String statusOf(Review r) {
+        Step reached = Step.lastDated(r, ALL_STEPS);
+        if (reached == null)
+            return ORDERED.status();
+        if ((SHARED_STEPS & 1 << reached.ordinal()) != 0)
+            return reached.status();
+        return of(r).status(r);
+    }
+
+    /** Status and next step together, from one read of the review's dates. */
+    public Progress progress(Review r) {
+        return progressByMask[Step.datedMask(r)];
+    }
+
+    /** Status of the furthest step with a date; "ordered" when none has one. */
+    public String status(Review r) {
+        Step reached = Step.lastDated(r, stepMask);
+        return reached != null ? reached.status() : ORDERED.status();
+    }
+
+    /** First step without a date, or null once the flow is complete. */
+    public Step next(Review r) {
+        return progress(r).next();
+    }
+
+    /**
+     * {@link #progress} that also checks each date against the step before it, in
+     * the same pass over the flow's dates.
+     *
+     * @throws ValidationException if a date is before the previous step's date
+     */
+    public Progress validatedProgress(Review r) {
+        return progressByMask[Step.validatedMask(r, stepMask)];
+    }
+
+    /**
+     * {@link #status} that also checks each date against the step before it.
+     *
+     * @throws ValidationException if a date is before the previous step's date
+     */
+    public String validatedStatus(Review r) {
+        return validatedProgress(r).status();
+    }
+
+    /**
+     * Dates the next step {@code when}, clears every step after it and sets the
+     * status to match.
+     *
+     * @return the step dated, or null if the flow was already complete
+     */
+    public Step advance(Review r, LocalDate when) {
+        int i = 0;
+        while (i < steps.length && steps[i].get(r) != null)
+            i++;
+        if (i == steps.length)
+            return null;
+        steps[i].set(r, when);
+        for (int j = i + 1; j < steps.length; j++)
+            steps[j].set(r, null);
+        r.setStatus(steps[i].status());
+        return steps[i];
+    }
+}
@@ -0,0 +1,49 @@
+package com.vinishchoudhary.reviewtracker.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("jobs")
+public class Job {
+    public static final String TYPE_IMPORT = "IMPORT";
+    public static final String TYPE_EXPORT = "EXPORT";
+
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String SUCCEEDED = "SUCCEEDED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    private String id;
+    private String type; // IMPORT | EXPORT
+    @Indexed
+    private String status; // QUEUED | RUNNING | SUCCEEDED | FAILED
+    private String fileName; // uploaded file for imports, download name for exports
+
+    private long rowsProcessed;
+    private long rowsSucceeded;
+    private long errorCount;
+    private List<String> errors; // first few per-row errors, for display
+    private String message; // failure reason or summary
+
+    @JsonIgnore
+    private String artifactPath; // server-local file: the uploaded CSV or the finished export
+
+    @Indexed
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
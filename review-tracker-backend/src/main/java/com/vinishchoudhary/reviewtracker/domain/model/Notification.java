@@ -0,0 +1,51 @@
+package com.vinishchoudhary.reviewtracker.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A notification rule firing for one review, materialized so the inbox is a plain
+ * indexed read. The id is {@code notif-<ruleId>-<reviewId>}, so re-evaluation
+ * upserts in place and keeps the read/dismissed state.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("notifications")
+@CompoundIndexes({
+        @CompoundIndex(name = "inbox", def = "{'dismissed': 1, 'typeRank': 1, 'triggerDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "unread", def = "{'dismissed': 1, 'read': 1}")
+})
+public class Notification {
+    @Id
+    private String id;
+    @Indexed
+    private String reviewId;
+    @Indexed
+    private String ruleId;
+    private String orderId;
+
+    private String type; // URGENT | WARNING | INFO
+    private int typeRank; // 0 = most urgent, for sorting
+    private String title;
+    private String message;
+    private String actionUrl;
+    private LocalDate triggerDate;
+
+    private boolean read;
+    private boolean dismissed;
+
+    private Instant createdAt;
+    private Instant evaluatedAt; // last time a rule evaluation confirmed it
+}
@@ -20,7 +20,7 @@ public class NotificationRule {
     private String excludeStatus; // e.g. "payment received" (don't notify if status matches this)
 
     private String type; // URGENT | WARNING | INFO
-    private String messageTemplate; // e.g. "Order {orderId} needs review"
+    private String messageTemplate; // e.g. "Order {orderId} needs review"; also {days}, {platform}, {mediator}
     private String actionUrl; // e.g. "/reviews/edit/{id}"
 
     private boolean active;
@@ -1,21 +1,67 @@
 package com.vinishchoudhary.reviewtracker.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.data.annotation.*;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document("reviews")
+// (sort key, _id) pairs back keyset paging on every sortable column; they also
+// serve the range queries the single-field date indexes used to.
+// Equality-Sort-Range: each multi-select filter field leads a (field, createdAt, _id)
+// index, so a filtered page in the default order merges sorted index scans per $in
+// value instead of sorting in memory. They also replace the single-field
+// platformId/mediatorId indexes, which were prefixes of them.
+// platformName/mediatorName copy the lookup names so the table can sort by them;
+// their (name, _id) indexes use NAME_COLLATION, as do those sorts, so names order
+// case-insensitively and the index still serves both offset and keyset pages.
+// deliveryDate_unpaid only holds reviews whose payment has not arrived; the overdue
+// count must repeat its status filter to use it, so both read UNPAID_FILTER.
+@CompoundIndexes({
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "orderedDate_id", def = "{'orderedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "deliveryDate_id", def = "{'deliveryDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "reviewSubmitDate_id", def = "{'reviewSubmitDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "reviewAcceptedDate_id", def = "{'reviewAcceptedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "ratingSubmittedDate_id", def = "{'ratingSubmittedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "refundFormSubmittedDate_id", def = "{'refundFormSubmittedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "paymentReceivedDate_id", def = "{'paymentReceivedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "amountRupees_id", def = "{'amountRupees': 1, '_id': 1}"),
+        @CompoundIndex(name = "refundAmountRupees_id", def = "{'refundAmountRupees': 1, '_id': 1}"),
+        @CompoundIndex(name = "productName_id", def = "{'productName': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_id", def = "{'status': 1, '_id': 1}"),
+        @CompoundIndex(name = "platformName_ci_id", def = "{'platformName': 1, '_id': 1}",
+                collation = Review.NAME_COLLATION),
+        @CompoundIndex(name = "mediatorName_ci_id", def = "{'mediatorName': 1, '_id': 1}",
+                collation = Review.NAME_COLLATION),
+        @CompoundIndex(name = "status_createdAt_id", def = "{'status': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "platformId_createdAt_id", def = "{'platformId': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "mediatorId_createdAt_id", def = "{'mediatorId': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "dealType_createdAt_id", def = "{'dealType': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "deliveryDate_unpaid", def = "{'deliveryDate': 1}",
+                partialFilter = Review.UNPAID_FILTER)
+})
 public class Review {
+    /** Case-insensitive (secondary strength) collation of the lookup-name sorts and their indexes. */
+    public static final String NAME_COLLATION = "{'locale': 'en', 'strength': 2}";
+
+    /** Partial filter of the deliveryDate_unpaid index: every status before "payment received". */
+    public static final String UNPAID_FILTER = "{'status': {'$in': ['ordered', 'delivered', 'review submitted', "
+            + "'review accepted', 'rating submitted', 'refund form submitted']}}";
+
     @Id
     private String id;
 
@@ -25,34 +71,41 @@ public class Review {
     private String productName;
     private String dealType; // REVIEW_PUBLISHED | REVIEW_SUBMISSION | RATING_ONLY
     private String status; // computed current status label
-    @Indexed
     private String platformId;
-    @Indexed
     private String mediatorId;
+    // Lookup names, set from the ids on every write and renamed in bulk by LookupService
+    private String platformName;
+    private String mediatorName;
 
-    @Indexed
     private LocalDate orderedDate;
-    @Indexed
     private LocalDate deliveryDate;
-    @Indexed
     private LocalDate reviewSubmitDate;
-    @Indexed
     private LocalDate reviewAcceptedDate;
-    @Indexed
     private LocalDate ratingSubmittedDate;
-    @Indexed
     private LocalDate refundFormSubmittedDate;
-    @Indexed
     private LocalDate paymentReceivedDate;
 
     private String refundFormUrl;
 
+    // Normalized product name words and their prefixes, set on every write (see SearchTokens)
+    @JsonIgnore
+    @Indexed
+    private List<String> searchTokens;
+
+    // Normalized product name words joined by single spaces; quick-search relevance compares against it
+    @JsonIgnore
+    private String searchName;
+
+    // Normalized orderId, set on every write; quick search matches an anchored prefix of it
+    @JsonIgnore
+    @Indexed
+    private String orderIdKey;
+
     private BigDecimal amountRupees;
     private BigDecimal lessRupees;
     private BigDecimal refundAmountRupees;
 
     @CreatedDate
-    @Indexed
     private java.time.Instant createdAt;
     @LastModifiedDate
     private java.time.Instant updatedAt;
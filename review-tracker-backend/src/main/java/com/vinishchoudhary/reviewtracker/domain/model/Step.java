@@ -0,0 +1,221 @@
+package com.vinishchoudhary.reviewtracker.domain.model;
+
+import com.vinishchoudhary.reviewtracker.api.error.ValidationException;
+
+import java.time.LocalDate;
+
+/**
+ * One dated step a review can go through: the Review field holding its date and
+ * the status a review has once it is the furthest step reached. {@link #get} and
+ * {@link #set} go through accessor tables indexed by ordinal, so callers never
+ * match field names. The per-review reads behind {@link DealFlow} ({@link #datedMask},
+ * {@link #lastDated}, {@link #validatedMask}) read the seven fields directly instead:
+ * a call through the table per step costs more than the work it selects.
+ */
+public enum Step {
+    ORDERED("orderedDate", "ordered"),
+    DELIVERED("deliveryDate", "delivered"),
+    REVIEW_SUBMITTED("reviewSubmitDate", "review submitted"),
+    REVIEW_ACCEPTED("reviewAcceptedDate", "review accepted"),
+    RATING_SUBMITTED("ratingSubmittedDate", "rating submitted"),
+    REFUND_FORM_SUBMITTED("refundFormSubmittedDate", "refund form submitted"),
+    PAYMENT_RECEIVED("paymentReceivedDate", "payment received");
+
+    private static final Step[] VALUES = values();
+
+    // Accessors indexed by ordinal, filled once
+    private static final Accessor[] ACCESSORS = new Accessor[values().length];
+
+    static {
+        ACCESSORS[ORDERED.ordinal()] = new Accessor() {
+            LocalDate get(Review r) {
+                return r.getOrderedDate();
+            }
+
+            void set(Review r, LocalDate v) {
+                r.setOrderedDate(v);
+            }
+        };
+        ACCESSORS[DELIVERED.ordinal()] = new Accessor() {
+            LocalDate get(Review r) {
+                return r.getDeliveryDate();
+            }
+
+            void set(Review r, LocalDate v) {
+                r.setDeliveryDate(v);
+            }
+        };
+        ACCESSORS[REVIEW_SUBMITTED.ordinal()] = new Accessor() {
+            LocalDate get(Review r) {
+                return r.getReviewSubmitDate();
+            }
+
+            void set(Review r, LocalDate v) {
+                r.setReviewSubmitDate(v);
+            }
+        };
+        ACCESSORS[REVIEW_ACCEPTED.ordinal()] = new Accessor() {
+            LocalDate get(Review r) {
+                return r.getReviewAcceptedDate();
+            }
+
+            void set(Review r, LocalDate v) {
+                r.setReviewAcceptedDate(v);
+            }
+        };
+        ACCESSORS[RATING_SUBMITTED.ordinal()] = new Accessor() {
+            LocalDate get(Review r) {
+                return r.getRatingSubmittedDate();
+            }
+
+            void set(Review r, LocalDate v) {
+                r.setRatingSubmittedDate(v);
+            }
+        };
+        ACCESSORS[REFUND_FORM_SUBMITTED.ordinal()] = new Accessor() {
+            LocalDate get(Review r) {
+                return r.getRefundFormSubmittedDate();
+            }
+
+            void set(Review r, LocalDate v) {
+                r.setRefundFormSubmittedDate(v);
+            }
+        };
+        ACCESSORS[PAYMENT_RECEIVED.ordinal()] = new Accessor() {
+            LocalDate get(Review r) {
+                return r.getPaymentReceivedDate();
+            }
+
+            void set(Review r, LocalDate v) {
+                r.setPaymentReceivedDate(v);
+            }
+        };
+    }
+
+    private abstract static class Accessor {
+        abstract LocalDate get(Review r);
+
+        abstract void set(Review r, LocalDate value);
+    }
+
+    private final String field;
+    private final int fieldHash;
+    private final String status;
+
+    Step(String field, String status) {
+        this.field = field;
+        this.fieldHash = field.hashCode();
+        this.status = status;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public String status() {
+        return status;
+    }
+
+    public LocalDate get(Review r) {
+        return ACCESSORS[ordinal()].get(r);
+    }
+
+    public void set(Review r, LocalDate value) {
+        ACCESSORS[ordinal()].set(r, value);
+    }
+
+    /** Bit {@code 1 << ordinal} for every step whose date is set. */
+    public static int datedMask(Review r) {
+        return (r.getOrderedDate() != null ? 1 : 0)
+                | (r.getDeliveryDate() != null ? 1 << 1 : 0)
+                | (r.getReviewSubmitDate() != null ? 1 << 2 : 0)
+                | (r.getReviewAcceptedDate() != null ? 1 << 3 : 0)
+                | (r.getRatingSubmittedDate() != null ? 1 << 4 : 0)
+                | (r.getRefundFormSubmittedDate() != null ? 1 << 5 : 0)
+                | (r.getPaymentReceivedDate() != null ? 1 << 6 : 0);
+    }
+
+    /**
+     * The last step in {@code flowMask} whose date is set, or null. Checks from the
+     * end and stops at the first date found, like a status ladder written by hand.
+     */
+    public static Step lastDated(Review r, int flowMask) {
+        if (r.getPaymentReceivedDate() != null && in(flowMask, PAYMENT_RECEIVED))
+            return PAYMENT_RECEIVED;
+        if (r.getRefundFormSubmittedDate() != null && in(flowMask, REFUND_FORM_SUBMITTED))
+            return REFUND_FORM_SUBMITTED;
+        if (r.getRatingSubmittedDate() != null && in(flowMask, RATING_SUBMITTED))
+            return RATING_SUBMITTED;
+        if (r.getReviewAcceptedDate() != null && in(flowMask, REVIEW_ACCEPTED))
+            return REVIEW_ACCEPTED;
+        if (r.getReviewSubmitDate() != null && in(flowMask, REVIEW_SUBMITTED))
+            return REVIEW_SUBMITTED;
+        if (r.getDeliveryDate() != null && in(flowMask, DELIVERED))
+            return DELIVERED;
+        if (r.getOrderedDate() != null && in(flowMask, ORDERED))
+            return ORDERED;
+        return null;
+    }
+
+    private static boolean in(int mask, Step s) {
+        return (mask & 1 << s.ordinal()) != 0;
+    }
+
+    /**
+     * {@link #datedMask} restricted to the steps in {@code flowMask}, checking in the
+     * same read that each date is on or after the one of the flow step before it.
+     * Flows list their steps in declaration order, so one walk in ordinal order
+     * meets them in flow order.
+     *
+     * @throws ValidationException if a date is before the previous step's date
+     */
+    public static int validatedMask(Review r, int flowMask) {
+        Chain c = new Chain(flowMask);
+        c.step(ORDERED, r.getOrderedDate());
+        c.step(DELIVERED, r.getDeliveryDate());
+        c.step(REVIEW_SUBMITTED, r.getReviewSubmitDate());
+        c.step(REVIEW_ACCEPTED, r.getReviewAcceptedDate());
+        c.step(RATING_SUBMITTED, r.getRatingSubmittedDate());
+        c.step(REFUND_FORM_SUBMITTED, r.getRefundFormSubmittedDate());
+        c.step(PAYMENT_RECEIVED, r.getPaymentReceivedDate());
+        return c.mask;
+    }
+
+    /** Walk state for {@link #validatedMask}; short-lived, so the JIT keeps it in registers. */
+    private static final class Chain {
+        private final int flowMask;
+        private int mask;
+        private Step prevStep;
+        private LocalDate prev;
+
+        Chain(int flowMask) {
+            this.flowMask = flowMask;
+        }
+
+        void step(Step step, LocalDate date) {
+            int bit = 1 << step.ordinal();
+            if ((flowMask & bit) == 0)
+                return;
+            if (date != null) {
+                if (prev != null && date.isBefore(prev))
+                    throw new ValidationException(step.field + " must be >= " + prevStep.field);
+                mask |= bit;
+            }
+            prevStep = step;
+            prev = date;
+        }
+    }
+
+    /** The step stored in {@code field}, or null if it is not a step date. */
+    public static Step forField(String field) {
+        // Scanned like DealFlow.of: the cached hash rejects other fields with an int compare
+        if (field != null) {
+            int hash = field.hashCode();
+            for (Step s : VALUES) {
+                if (s.fieldHash == hash && s.field.equals(field))
+                    return s;
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.vinishchoudhary.reviewtracker.domain.validation;
 
 import com.vinishchoudhary.reviewtracker.api.error.ValidationException;
+import com.vinishchoudhary.reviewtracker.domain.model.DealFlow;
 import com.vinishchoudhary.reviewtracker.domain.model.Review;
 import org.springframework.stereotype.Component;
 
@@ -16,30 +17,9 @@ public class DateChainValidator {
         check("paymentReceivedDate", payment, refundForm, "refundFormSubmittedDate");
     }
 
+    /** Checks every date in the review's deal flow against the step before it. */
     public void validate(Review r) {
-        LocalDate ordered = r.getOrderedDate();
-        LocalDate delivery = r.getDeliveryDate();
-        // Always: delivery >= ordered
-        check("deliveryDate", delivery, ordered, "orderedDate");
-
-        String dt = r.getDealType() == null ? "REVIEW_SUBMISSION" : r.getDealType();
-        switch (dt) {
-            case "REVIEW_PUBLISHED":
-                check("reviewSubmitDate", r.getReviewSubmitDate(), delivery, "deliveryDate");
-                check("reviewAcceptedDate", r.getReviewAcceptedDate(), r.getReviewSubmitDate(), "reviewSubmitDate");
-                check("refundFormSubmittedDate", r.getRefundFormSubmittedDate(), r.getReviewAcceptedDate(), "reviewAcceptedDate");
-                check("paymentReceivedDate", r.getPaymentReceivedDate(), r.getRefundFormSubmittedDate(), "refundFormSubmittedDate");
-                break;
-            case "RATING_ONLY":
-                check("ratingSubmittedDate", r.getRatingSubmittedDate(), delivery, "deliveryDate");
-                check("refundFormSubmittedDate", r.getRefundFormSubmittedDate(), r.getRatingSubmittedDate(), "ratingSubmittedDate");
-                check("paymentReceivedDate", r.getPaymentReceivedDate(), r.getRefundFormSubmittedDate(), "refundFormSubmittedDate");
-                break;
-            default: // REVIEW_SUBMISSION
-                check("reviewSubmitDate", r.getReviewSubmitDate(), delivery, "deliveryDate");
-                check("refundFormSubmittedDate", r.getRefundFormSubmittedDate(), r.getReviewSubmitDate(), "reviewSubmitDate");
-                check("paymentReceivedDate", r.getPaymentReceivedDate(), r.getRefundFormSubmittedDate(), "refundFormSubmittedDate");
-        }
+        DealFlow.of(r).validatedStatus(r);
     }
 
     private void check(String name, LocalDate actual, LocalDate min, String minName) {
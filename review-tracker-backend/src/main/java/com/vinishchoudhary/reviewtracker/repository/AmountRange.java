@@ -0,0 +1,37 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Inclusive range on one review amount; either end may be left open. In a query
+ * string it is written {@code field:min..max}, e.g. {@code amountRupees:500..2000}
+ * or {@code refundAmountRupees:..100}. Only amounts with an index on Review are
+ * accepted, so the range is always served by one.
+ */
+public record AmountRange(String field, BigDecimal min, BigDecimal max) {
+
+    public AmountRange {
+        if (field == null || !ReviewRepositoryImpl.AMOUNT_FIELDS.contains(field))
+            throw new IllegalArgumentException("Unknown amount field: " + field);
+        if (min != null && max != null && min.compareTo(max) > 0)
+            throw new IllegalArgumentException("Amount range on " + field + " starts after it ends");
+    }
+
+    /** @throws IllegalArgumentException if {@code spec} is not {@code field:min..max} */
+    public static AmountRange parse(String spec) {
+        int colon = spec.indexOf(':');
+        int dots = spec.indexOf("..", colon + 1);
+        if (colon < 0 || dots < 0)
+            throw new IllegalArgumentException("Amount range must look like field:min..max, got " + spec);
+        try {
+            return new AmountRange(spec.substring(0, colon).trim(),
+                    amount(spec.substring(colon + 1, dots)), amount(spec.substring(dots + 2)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad amount in range " + spec);
+        }
+    }
+
+    private static BigDecimal amount(String s) {
+        return s.isBlank() ? null : new BigDecimal(s.trim());
+    }
+}
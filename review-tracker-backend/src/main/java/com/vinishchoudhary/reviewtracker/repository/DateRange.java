@@ -0,0 +1,37 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Inclusive range on one review date field; either end may be left open. In a
+ * query string it is written {@code field:from..to}, e.g.
+ * {@code deliveryDate:2024-01-01..2024-03-31} or {@code paymentReceivedDate:..2024-03-31}.
+ */
+public record DateRange(String field, LocalDate from, LocalDate to) {
+
+    public DateRange {
+        if (field == null || !ReviewRepositoryImpl.DATE_FIELDS.contains(field))
+            throw new IllegalArgumentException("Unknown date field: " + field);
+        if (from != null && to != null && from.isAfter(to))
+            throw new IllegalArgumentException("Date range on " + field + " starts after it ends");
+    }
+
+    /** @throws IllegalArgumentException if {@code spec} is not {@code field:from..to} */
+    public static DateRange parse(String spec) {
+        int colon = spec.indexOf(':');
+        int dots = spec.indexOf("..", colon + 1);
+        if (colon < 0 || dots < 0)
+            throw new IllegalArgumentException("Date range must look like field:from..to, got " + spec);
+        try {
+            return new DateRange(spec.substring(0, colon).trim(),
+                    date(spec.substring(colon + 1, dots)), date(spec.substring(dots + 2)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Bad date in range " + spec);
+        }
+    }
+
+    private static LocalDate date(String s) {
+        return s.isBlank() ? null : LocalDate.parse(s.trim());
+    }
+}
@@ -0,0 +1,12 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Job;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobRepository extends MongoRepository<Job, String> {
+    List<Job> findTop50ByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,9 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import java.util.List;
+
+/**
+ * One page of a keyset scroll. {@code next} is null when there are no further rows.
+ */
+public record KeysetSlice<T>(List<T> content, ReviewCursor next) {
+}
@@ -0,0 +1,14 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationRepository extends MongoRepository<Notification, String> {
+    Page<Notification> findByDismissedFalse(Pageable pageable);
+
+    long countByDismissedFalseAndReadFalse();
+}
@@ -0,0 +1,66 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs two independent reads, such as a page and its total count, side by side.
+ * With virtual threads on ({@code spring.threads.virtual.enabled}) the first read
+ * is forked onto its own virtual thread while the caller runs the second. With
+ * platform threads both run in turn on the caller, so a request never holds more
+ * than one pool thread.
+ * <p>
+ * The fork never outlives the call: if the caller's read fails, or the caller is
+ * interrupted while waiting, the fork is cancelled before the error propagates.
+ */
+@Component
+public class ParallelReads {
+    private final boolean virtual;
+
+    @Autowired
+    public ParallelReads(Environment environment) {
+        this(Threading.VIRTUAL.isActive(environment));
+    }
+
+    ParallelReads(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combine) {
+        if (!virtual)
+            return combine.apply(first.get(), second.get());
+        FutureTask<A> forked = new FutureTask<>(first::get);
+        Thread.ofVirtual().name("read-fork").start(forked);
+        B b;
+        try {
+            b = second.get();
+        } catch (RuntimeException | Error e) {
+            forked.cancel(true);
+            throw e;
+        }
+        return combine.apply(join(forked), b);
+    }
+
+    private static <T> T join(FutureTask<T> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a parallel read", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re)
+                throw re;
+            if (e.getCause() instanceof Error err)
+                throw err;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
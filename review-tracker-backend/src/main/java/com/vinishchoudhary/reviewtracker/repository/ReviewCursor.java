@@ -0,0 +1,49 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Position of the last row of a keyset page: the sort key value as stored in
+ * Mongo plus the _id tie-breaker. Encoded as base64url extended JSON so BSON
+ * types (dates, ObjectIds, decimals) survive the round trip unchanged.
+ */
+public record ReviewCursor(String sort, String dir, Object value, Object id) {
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    public String encode() {
+        Document d = new Document("s", sort).append("d", dir).append("v", value).append("i", id);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(d.toJson(JSON).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ReviewCursor decode(String token) {
+        Document d;
+        try {
+            d = Document.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        Object value = d.get("v");
+        Object id = d.get("i");
+        // Only scalar values may be fed back into the query; a document here could smuggle in operators
+        if (isStructured(value) || id == null || isStructured(id) || !(d.get("s") instanceof String)
+                || !(d.get("d") instanceof String)) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new ReviewCursor(d.getString("s"), d.getString("d"), value, id);
+    }
+
+    private static boolean isStructured(Object v) {
+        return v instanceof Map || v instanceof Collection;
+    }
+}
@@ -0,0 +1,10 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import java.util.Map;
+
+/**
+ * Targeted update of one review for a bulk write: the listed fields are $set
+ * (or $unset when null), guarded by the version the change was computed from.
+ */
+public record ReviewPatch(String id, Long version, Map<String, Object> fields) {
+}
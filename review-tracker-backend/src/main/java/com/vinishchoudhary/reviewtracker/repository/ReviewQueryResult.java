@@ -0,0 +1,14 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of {@link ReviewRepositoryCustom#queryReviews}. {@code totals} has the
+ * count, totalAmount, totalRefund and totalPendingRefund keys, or is null when
+ * totals were not requested.
+ */
+public record ReviewQueryResult(List<Review> content, long total, Map<String, Object> totals) {
+}
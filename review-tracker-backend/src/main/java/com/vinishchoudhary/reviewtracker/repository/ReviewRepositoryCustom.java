@@ -1,10 +1,106 @@
 package com.vinishchoudhary.reviewtracker.repository;
 
+import com.vinishchoudhary.reviewtracker.domain.model.DashboardCounters;
+import com.vinishchoudhary.reviewtracker.domain.model.NotificationRule;
 import com.vinishchoudhary.reviewtracker.domain.model.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ReviewRepositoryCustom {
     Page<Review> searchReviews(ReviewSearchCriteria criteria, Pageable pageable);
-    java.util.Map<String, Object> aggregatedTotals(ReviewSearchCriteria criteria);
+
+    /**
+     * Like {@link #searchReviews(ReviewSearchCriteria, Pageable)} but Mongo returns only
+     * {@code fields} (and _id); the other properties of the returned reviews are null.
+     * A null {@code fields} returns whole documents.
+     */
+    Page<Review> searchReviews(ReviewSearchCriteria criteria, Pageable pageable, Collection<String> fields);
+
+    /**
+     * Page rows, total count and (when {@code withTotals}) the financial totals for one
+     * filter, from a single $facet aggregation. An unpaged {@code pageable} skips the rows.
+     */
+    ReviewQueryResult queryReviews(ReviewSearchCriteria criteria, Pageable pageable, boolean withTotals);
+
+    long countReviews(ReviewSearchCriteria criteria);
+
+    /** Reviews delivered before the given date whose payment has not been received. */
+    long countUnpaidDeliveredBefore(LocalDate deliveredBefore);
+
+    /** The subset of the given order IDs that already exist, fetched with a single $in query. */
+    Set<String> findExistingOrderIds(Collection<String> orderIds);
+
+    /**
+     * Inserts with one unordered bulk write so a bad row does not stop the rest.
+     *
+     * @return error message per failed position in {@code reviews}; empty when all succeeded
+     */
+    Map<Integer, String> insertUnordered(List<Review> reviews);
+
+    /**
+     * Applies every patch with one unordered bulk write. A patch only lands when the
+     * stored version still equals {@link ReviewPatch#version()}; landed documents get
+     * {@code updatedAt = stamp} and their version incremented.
+     *
+     * @return ids of the patches that were applied; the rest hit a concurrent change
+     */
+    Set<String> applyPatches(List<ReviewPatch> patches, Instant stamp);
+
+    /**
+     * Deletes each review only if its version is unchanged.
+     *
+     * @return ids whose delete removed the document; the rest were changed or deleted
+     *         by someone else
+     */
+    Set<String> deleteVersioned(Map<String, Long> versionsById);
+
+    /** Cursor over all matching reviews, fetched in batches; the caller must close the stream. */
+    Stream<Review> streamReviews(ReviewSearchCriteria criteria, int batchSize);
+
+    /** Cursor over every review with only id, orderId and productName populated. */
+    Stream<Review> streamSuggestFields(int batchSize);
+
+    /**
+     * Keyset page ordered by {@code sortField} then _id, starting strictly after {@code after}
+     * (or from the beginning when null).
+     *
+     * @throws IllegalArgumentException if {@code sortField} is not a review property
+     */
+    KeysetSlice<Review> scrollReviews(ReviewSearchCriteria criteria, String sortField, Sort.Direction dir,
+            ReviewCursor after, int size);
+
+    /**
+     * Sets {@code platformName} on every review of the platform whose copy differs;
+     * a null name removes it. Versions are left alone: the name is derived.
+     *
+     * @return reviews changed
+     */
+    long updatePlatformName(String platformId, String name);
+
+    /** As {@link #updatePlatformName} for {@code mediatorName}. */
+    long updateMediatorName(String mediatorId, String name);
+
+    /** Full recount of the dashboard counters, computed inside Mongo. */
+    DashboardCounters dashboardCounters();
+
+    /**
+     * Cursor over the reviews matching a notification rule, with only id, orderId,
+     * status, platform and mediator ids and the rule's trigger date populated; the
+     * caller must close the stream.
+     *
+     * @throws IllegalArgumentException if the rule's trigger field is not a review date
+     */
+    Stream<Review> streamRuleMatches(NotificationRule rule, LocalDate today);
+
+    /** Reviews delivered before the given date with no review submitted yet, oldest delivery first. */
+    List<Review> findAwaitingReviewSubmission(LocalDate deliveredBefore, int limit);
 }
@@ -1,87 +1,469 @@
 package com.vinishchoudhary.reviewtracker.repository;
 
+import com.vinishchoudhary.reviewtracker.domain.model.DashboardCounters;
+import com.vinishchoudhary.reviewtracker.domain.model.DealFlow;
+import com.vinishchoudhary.reviewtracker.domain.model.NotificationRule;
 import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.domain.model.Step;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
+    static final Set<String> DATE_FIELDS = Arrays.stream(Step.values()).map(Step::field)
+            .collect(Collectors.toUnmodifiableSet());
+
+    /** Amounts with an index on Review; range filters are limited to these. */
+    static final Set<String> AMOUNT_FIELDS = Set.of("amountRupees", "refundAmountRupees");
+
+    /** Statuses in the deliveryDate_unpaid partial index, read from its filter so the two can't drift. */
+    static final List<String> UNPAID_STATUSES = Document.parse(Review.UNPAID_FILTER)
+            .get("status", Document.class).getList("$in", String.class);
+
+    /** Sorts on these use {@link #NAME_COLLATION}, matching their indexes on Review. */
+    static final Set<String> NAME_FIELDS = Set.of("platformName", "mediatorName");
+    static final Collation NAME_COLLATION = Collation.from(Document.parse(Review.NAME_COLLATION));
+
+    /** Days after delivery before a review with open steps counts as overdue. */
+    static final int OVERDUE_AFTER_DAYS = 7;
+
+    /** Pseudo sort property: order quick-search results by match quality. */
+    public static final String RELEVANCE = "relevance";
+
     private final MongoTemplate mongoTemplate;
+    private final ParallelReads parallelReads;
 
     @Override
     public Page<Review> searchReviews(ReviewSearchCriteria criteria, Pageable pageable) {
+        return searchReviews(criteria, pageable, null);
+    }
+
+    @Override
+    public Page<Review> searchReviews(ReviewSearchCriteria criteria, Pageable pageable, Collection<String> fields) {
+        List<Criteria> filters = buildFilters(criteria);
+        Query countQuery = filterQuery(filters);
+        String text = searchText(criteria);
+        if (pageable.getSort().getOrderFor(RELEVANCE) != null && text != null) {
+            Pageable page = pageable;
+            return parallelReads.both(() -> mongoTemplate.count(countQuery, Review.class),
+                    () -> searchByRelevance(filters, text, page, fields),
+                    (total, results) -> new PageImpl<>(results, page, total));
+        }
+        Pageable page = withoutRelevance(pageable);
+        // The count needs no collation: no filter compares names, and without one it stays index-only
+        Query query = filterQuery(filters).with(page).collation(collationFor(page.getSort()));
+        if (fields != null)
+            query.fields().include(fields.toArray(new String[0]));
+        return parallelReads.both(() -> mongoTemplate.count(countQuery, Review.class),
+                () -> mongoTemplate.find(query, Review.class),
+                (total, results) -> new PageImpl<>(results, page, total));
+    }
+
+    @Override
+    public ReviewQueryResult queryReviews(ReviewSearchCriteria criteria, Pageable pageable, boolean withTotals) {
+        List<Criteria> filters = buildFilters(criteria);
+        List<AggregationOperation> ops = new ArrayList<>();
+        if (!filters.isEmpty())
+            ops.add(Aggregation.match(matchAll(filters)));
+
+        // Sorting ahead of $facet lets an index serve the order; rows then only skip and limit
+        Document facets = new Document();
+        if (pageable.isPaged()) {
+            String text = searchText(criteria);
+            List<Document> rows = new ArrayList<>(List.of(new Document("$skip", pageable.getOffset()),
+                    new Document("$limit", pageable.getPageSize())));
+            if (pageable.getSort().getOrderFor(RELEVANCE) != null && text != null) {
+                ops.addAll(relevanceOrder(text));
+                rows.add(new Document("$project", new Document("_score", 0)));
+            } else if (withoutRelevance(pageable).getSort().isSorted()) {
+                ops.add(Aggregation.sort(withoutRelevance(pageable).getSort()));
+            }
+            facets.append("rows", rows);
+        }
+        facets.append("totals", withTotals ? totalsStages() : List.of(new Document("$count", "count")));
+        ops.add(context -> new Document("$facet", facets));
+
+        Aggregation aggregation = Aggregation.newAggregation(ops);
+        Collation collation = pageable.isPaged() ? collationFor(withoutRelevance(pageable).getSort()) : null;
+        if (collation != null)
+            aggregation = aggregation.withOptions(AggregationOptions.builder().collation(collation).build());
+        Document result = mongoTemplate.aggregate(aggregation, Review.class, Document.class)
+                .getUniqueMappedResult();
+        List<Review> content = new ArrayList<>();
+        Document totals = new Document();
+        if (result != null) {
+            for (Document row : result.getList("rows", Document.class, List.of()))
+                content.add(mongoTemplate.getConverter().read(Review.class, row));
+            List<Document> groups = result.getList("totals", Document.class, List.of());
+            if (!groups.isEmpty())
+                totals = groups.get(0);
+        }
+        long total = toNumber(totals.get("count")).longValue();
+        return new ReviewQueryResult(content, total, withTotals ? totalsMap(totals) : null);
+    }
+
+    @Override
+    public long countReviews(ReviewSearchCriteria criteria) {
+        return mongoTemplate.count(filterQuery(buildFilters(criteria)), Review.class);
+    }
+
+    @Override
+    public long countUnpaidDeliveredBefore(LocalDate deliveredBefore) {
+        return mongoTemplate.count(unpaidDeliveredBeforeQuery(deliveredBefore), Review.class);
+    }
+
+    /** The search filter as a query, without sort or paging. */
+    static Query filterQuery(ReviewSearchCriteria criteria) {
+        return filterQuery(buildFilters(criteria));
+    }
+
+    private static Query filterQuery(List<Criteria> filters) {
         Query query = new Query();
-        List<Criteria> filters = new ArrayList<>();
+        if (!filters.isEmpty())
+            query.addCriteria(matchAll(filters));
+        return query;
+    }
 
-        if (criteria.getPlatformId() != null)
-            filters.add(Criteria.where("platformId").is(criteria.getPlatformId()));
-        if (criteria.getPlatformIdIn() != null && !criteria.getPlatformIdIn().isEmpty())
-            filters.add(Criteria.where("platformId").in(criteria.getPlatformIdIn()));
+    private static Criteria matchAll(List<Criteria> filters) {
+        return filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters.toArray(new Criteria[0]));
+    }
 
-        if (criteria.getStatus() != null)
-            filters.add(Criteria.where("status").is(criteria.getStatus()));
-        if (criteria.getStatusIn() != null && !criteria.getStatusIn().isEmpty())
-            filters.add(Criteria.where("status").in(criteria.getStatusIn()));
+    /** {@link #NAME_COLLATION} when the sort orders by a lookup name, otherwise null (binary order). */
+    static Collation collationFor(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (NAME_FIELDS.contains(order.getProperty()))
+                return NAME_COLLATION;
+        }
+        return null;
+    }
 
-        if (criteria.getMediatorId() != null)
-            filters.add(Criteria.where("mediatorId").is(criteria.getMediatorId()));
-        if (criteria.getMediatorIdIn() != null && !criteria.getMediatorIdIn().isEmpty())
-            filters.add(Criteria.where("mediatorId").in(criteria.getMediatorIdIn()));
+    /** Relevance only applies to quick search; without search text the page falls back to newest first. */
+    private static Pageable withoutRelevance(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(RELEVANCE) == null)
+            return pageable;
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
 
-        if (criteria.getDealType() != null)
-            filters.add(Criteria.where("dealType").is(criteria.getDealType()));
-        if (criteria.getDealTypeIn() != null && !criteria.getDealTypeIn().isEmpty())
-            filters.add(Criteria.where("dealType").in(criteria.getDealTypeIn()));
+    /**
+     * The status filter is implied by a missing payment date but is stated anyway:
+     * the planner only uses the partial deliveryDate_unpaid index when the query
+     * repeats its filter expression.
+     */
+    static Query unpaidDeliveredBeforeQuery(LocalDate deliveredBefore) {
+        return new Query(Criteria.where("deliveryDate").lt(deliveredBefore)
+                .and("status").in(UNPAID_STATUSES)
+                .and("paymentReceivedDate").is(null));
+    }
 
-        if (criteria.getHasRefundFormUrl() != null) {
-            if (criteria.getHasRefundFormUrl()) {
-                filters.add(Criteria.where("refundFormUrl").exists(true).ne(null).ne(""));
-            } else {
-                filters.add(new Criteria().orOperator(
-                        Criteria.where("refundFormUrl").exists(false),
-                        Criteria.where("refundFormUrl").is(null),
-                        Criteria.where("refundFormUrl").is("")));
+    @Override
+    public Set<String> findExistingOrderIds(Collection<String> orderIds) {
+        if (orderIds.isEmpty())
+            return Set.of();
+        Query query = new Query(Criteria.where("orderId").in(orderIds));
+        query.fields().include("orderId").exclude("_id");
+        Set<String> existing = new HashSet<>();
+        for (Document d : mongoTemplate.find(query, Document.class, "reviews"))
+            existing.add(d.getString("orderId"));
+        return existing;
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Review> reviews) {
+        if (reviews.isEmpty())
+            return Map.of();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Review.class).insert(reviews).execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            for (BulkWriteError err : e.getErrors()) {
+                failures.put(err.getIndex(), err.getCode() == 11000 ? "Duplicate orderId" : err.getMessage());
             }
+            return failures;
+        }
+    }
+
+    @Override
+    public Set<String> applyPatches(List<ReviewPatch> patches, Instant stamp) {
+        if (patches.isEmpty())
+            return Set.of();
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Review.class);
+        for (ReviewPatch p : patches) {
+            Update u = new Update();
+            p.fields().forEach((field, value) -> {
+                if (value == null)
+                    u.unset(field);
+                else
+                    u.set(field, value);
+            });
+            u.set("updatedAt", stamp).inc("version", 1);
+            ops.updateOne(new Query(Criteria.where("_id").is(p.id()).and("version").is(p.version())), u);
         }
+        BulkWriteResult result = ops.execute();
+
+        Set<String> ids = new HashSet<>();
+        patches.forEach(p -> ids.add(p.id()));
+        if (result.getMatchedCount() == patches.size())
+            return ids;
 
-        // Quick search: if both provided, match productName OR orderId (not AND)
-        if (criteria.getProductNameContains() != null && criteria.getOrderIdContains() != null) {
-            filters.add(new Criteria().orOperator(
-                    Criteria.where("productName").regex(criteria.getProductNameContains(), "i"),
-                    Criteria.where("orderId").regex(criteria.getOrderIdContains(), "i")));
-        } else if (criteria.getProductNameContains() != null) {
-            filters.add(Criteria.where("productName").regex(criteria.getProductNameContains(), "i"));
-        } else if (criteria.getOrderIdContains() != null) {
-            filters.add(Criteria.where("orderId").regex(criteria.getOrderIdContains(), "i"));
+        // Some patches lost a version race; only documents carrying our stamp and the
+        // expected next version were written by this call.
+        Map<String, Long> expected = new HashMap<>();
+        patches.forEach(p -> expected.put(p.id(), p.version() == null ? 1L : p.version() + 1));
+        Query landed = new Query(Criteria.where("_id").in(ids).and("updatedAt").is(stamp));
+        landed.fields().include("_id").include("version");
+        Set<String> applied = new HashSet<>();
+        for (Review r : mongoTemplate.find(landed, Review.class)) {
+            if (Objects.equals(expected.get(r.getId()), r.getVersion()))
+                applied.add(r.getId());
         }
+        return applied;
+    }
 
+    @Override
+    public Set<String> deleteVersioned(Map<String, Long> versionsById) {
+        // One delete per review: a bulk write only reports a total, and a review that
+        // another writer removed meanwhile must not be counted (and logged) as ours.
+        Set<String> deleted = new HashSet<>();
+        versionsById.forEach((id, version) -> {
+            Query q = new Query(Criteria.where("_id").is(id).and("version").is(version));
+            if (mongoTemplate.remove(q, Review.class).getDeletedCount() > 0)
+                deleted.add(id);
+        });
+        return deleted;
+    }
+
+    @Override
+    public Stream<Review> streamRuleMatches(NotificationRule rule, LocalDate today) {
+        Query query = new Query(ruleCriteria(rule, today));
+        query.fields().include("_id", "orderId", "status", "platformId", "mediatorId", rule.getTriggerField());
+        query.cursorBatchSize(500);
+        return mongoTemplate.stream(query, Review.class);
+    }
+
+    /**
+     * A rule fires once its trigger date is at least daysAfter old, while the missing
+     * field is still empty and the review is not in the excluded status. The range on
+     * the trigger date is served by the (date, _id) indexes.
+     */
+    private static Criteria ruleCriteria(NotificationRule rule, LocalDate today) {
+        if (!DATE_FIELDS.contains(rule.getTriggerField()))
+            throw new IllegalArgumentException("Unsupported trigger field: " + rule.getTriggerField());
+        Criteria c = Criteria.where(rule.getTriggerField()).lte(today.minusDays(rule.getDaysAfter()));
+        if (rule.getMissingField() != null && !rule.getMissingField().isBlank()) {
+            if (!DATE_FIELDS.contains(rule.getMissingField()))
+                throw new IllegalArgumentException("Unsupported missing field: " + rule.getMissingField());
+            c = c.and(rule.getMissingField()).is(null);
+        }
+        if (rule.getExcludeStatus() != null && !rule.getExcludeStatus().isBlank())
+            // computed statuses are lower case; rules matched them case-insensitively
+            c = c.and("status").ne(rule.getExcludeStatus().toLowerCase(Locale.ROOT));
+        return c;
+    }
+
+    @Override
+    public Stream<Review> streamReviews(ReviewSearchCriteria criteria, int batchSize) {
+        Query query = new Query();
+        List<Criteria> filters = buildFilters(criteria);
         if (!filters.isEmpty()) {
             query.addCriteria(new Criteria().andOperator(filters.toArray(new Criteria[0])));
         }
+        query.cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, Review.class);
+    }
 
-        long total = mongoTemplate.count(query, Review.class);
-        query.with(pageable);
-        List<Review> results = mongoTemplate.find(query, Review.class);
-
-        return new PageImpl<>(results, pageable, total);
+    @Override
+    public Stream<Review> streamSuggestFields(int batchSize) {
+        Query query = new Query();
+        query.fields().include("_id", "orderId", "productName");
+        query.cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, Review.class);
     }
 
     @Override
-    public Map<String, Object> aggregatedTotals(ReviewSearchCriteria criteria) {
+    public KeysetSlice<Review> scrollReviews(ReviewSearchCriteria criteria, String sortField, Sort.Direction dir,
+            ReviewCursor after, int size) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(Review.class);
+        MongoPersistentProperty property = entity.getPersistentProperty(sortField);
+        if (property == null || property.isIdProperty())
+            throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+
+        List<Criteria> filters = buildFilters(criteria);
+        if (after != null)
+            filters.add(keysetCriteria(sortField, dir, after));
         Query query = new Query();
+        if (!filters.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(filters.toArray(new Criteria[0])));
+        }
+        // _id breaks ties so every row has a unique position; fetch one extra row to detect a next page
+        query.with(Sort.by(dir, sortField).and(Sort.by(dir, "_id"))).limit(size + 1)
+                .collation(collationFor(Sort.by(sortField)));
+        List<Review> rows = mongoTemplate.find(query, Review.class);
+
+        if (rows.size() <= size)
+            return new KeysetSlice<>(rows, null);
+        rows = rows.subList(0, size);
+        Review last = rows.get(size - 1);
+        Object raw = entity.getPropertyAccessor(last).getProperty(property);
+        Object value = raw == null ? null : mongoTemplate.getConverter().convertToMongoType(raw);
+        Object id = ObjectId.isValid(last.getId()) ? new ObjectId(last.getId()) : last.getId();
+        return new KeysetSlice<>(rows, new ReviewCursor(sortField, dir.name(), value, id));
+    }
+
+    /**
+     * Rows strictly after the cursor in (field, _id) order. Mongo sorts null/missing
+     * values first ascending and last descending, and range operators never match
+     * null, so the null band is handled explicitly.
+     */
+    private static Criteria keysetCriteria(String field, Sort.Direction dir, ReviewCursor after) {
+        boolean asc = dir.isAscending();
+        Object v = after.value();
+        Object id = after.id();
+        Criteria sameKeyAfterId = asc ? Criteria.where("_id").gt(id) : Criteria.where("_id").lt(id);
+        if (v == null) {
+            Criteria nullBand = new Criteria().andOperator(Criteria.where(field).is(null), sameKeyAfterId);
+            return asc ? new Criteria().orOperator(nullBand, Criteria.where(field).ne(null)) : nullBand;
+        }
+        Criteria beyond = asc ? Criteria.where(field).gt(v) : Criteria.where(field).lt(v);
+        Criteria tie = new Criteria().andOperator(Criteria.where(field).is(v), sameKeyAfterId);
+        return asc ? new Criteria().orOperator(beyond, tie)
+                : new Criteria().orOperator(beyond, tie, Criteria.where(field).is(null));
+    }
+
+    // Money is summed inside Mongo; only the single $group document comes back.
+    // Amounts are converted with $convert so string-encoded BigDecimals still add up.
+    private static List<Document> totalsStages() {
+        Document refund = new Document("$ifNull", List.of(
+                toDecimal("$refundAmountRupees"),
+                new Document("$subtract", List.of(toDecimal("$amountRupees"), toDecimal("$lessRupees")))));
+        Document project = new Document("$project", new Document()
+                .append("amount", toDecimal("$amountRupees"))
+                .append("refund", refund)
+                .append("paid", new Document("$gt", Arrays.asList(
+                        new Document("$ifNull", Arrays.asList("$paymentReceivedDate", null)), null))));
+        Document group = new Document("$group", new Document("_id", null)
+                .append("count", new Document("$sum", 1))
+                .append("totalAmount", new Document("$sum", "$amount"))
+                .append("totalRefund", new Document("$sum", "$refund"))
+                .append("totalPendingRefund", new Document("$sum",
+                        new Document("$cond", Arrays.asList("$paid", 0, "$refund")))));
+        return List.of(project, group);
+    }
+
+    private static Map<String, Object> totalsMap(Document totals) {
+        return Map.of(
+                "count", toNumber(totals.get("count")).longValue(),
+                "totalAmount", toNumber(totals.get("totalAmount")).doubleValue(),
+                "totalRefund", toNumber(totals.get("totalRefund")).doubleValue(),
+                "totalPendingRefund", toNumber(totals.get("totalPendingRefund")).doubleValue());
+    }
+
+    @Override
+    public long updatePlatformName(String platformId, String name) {
+        return updateLookupName("platformId", "platformName", platformId, name);
+    }
+
+    @Override
+    public long updateMediatorName(String mediatorId, String name) {
+        return updateLookupName("mediatorId", "mediatorName", mediatorId, name);
+    }
+
+    private long updateLookupName(String idField, String nameField, String id, String name) {
+        Query query = new Query(Criteria.where(idField).is(id).and(nameField).ne(name));
+        Update update = name == null ? new Update().unset(nameField) : new Update().set(nameField, name);
+        return mongoTemplate.updateMulti(query, update, Review.class).getModifiedCount();
+    }
+
+    @Override
+    public DashboardCounters dashboardCounters() {
+        Document refund = toDecimal("$refundAmountRupees");
+        AggregationOperation project = context -> new Document("$project", new Document()
+                .append("pendingReview", flag(new Document("$in", List.of("$status",
+                        List.of("ordered", "delivered")))))
+                .append("pendingRefund", flag(new Document("$and", List.of(
+                        new Document("$in", List.of("$status",
+                                List.of("review submitted", "review accepted", "rating submitted"))),
+                        isNull("$refundFormSubmittedDate")))))
+                .append("pendingPayment", flag(new Document("$eq", List.of("$status", "refund form submitted"))))
+                .append("amount", toDecimal("$amountRupees"))
+                .append("refunded", new Document("$cond", Arrays.asList(isNull("$paymentReceivedDate"), null, refund)))
+                .append("pendingRefundAmount",
+                        new Document("$cond", Arrays.asList(isNull("$paymentReceivedDate"), refund, null))));
+        AggregationOperation group = context -> new Document("$group", new Document("_id", null)
+                .append("totalReviews", new Document("$sum", 1))
+                .append("pendingReviewRating", new Document("$sum", "$pendingReview"))
+                .append("pendingRefundForm", new Document("$sum", "$pendingRefund"))
+                .append("pendingPayment", new Document("$sum", "$pendingPayment"))
+                .append("totalSpent", new Document("$sum", "$amount"))
+                .append("totalRefunded", new Document("$sum", "$refunded"))
+                .append("pendingRefundAmount", new Document("$sum", "$pendingRefundAmount")));
+
+        Document d = mongoTemplate.aggregate(Aggregation.newAggregation(project, group), "reviews", Document.class)
+                .getUniqueMappedResult();
+        if (d == null)
+            d = new Document();
+        return DashboardCounters.builder()
+                .totalReviews(toNumber(d.get("totalReviews")).longValue())
+                .pendingReviewRating(toNumber(d.get("pendingReviewRating")).longValue())
+                .pendingRefundForm(toNumber(d.get("pendingRefundForm")).longValue())
+                .pendingPayment(toNumber(d.get("pendingPayment")).longValue())
+                .totalSpent(toBigDecimal(d.get("totalSpent")))
+                .totalRefunded(toBigDecimal(d.get("totalRefunded")))
+                .pendingRefundAmount(toBigDecimal(d.get("pendingRefundAmount")))
+                .build();
+    }
+
+    @Override
+    public List<Review> findAwaitingReviewSubmission(LocalDate deliveredBefore, int limit) {
+        Query query = new Query(Criteria.where("deliveryDate").lt(deliveredBefore).and("reviewSubmitDate").is(null))
+                .with(Sort.by(Sort.Direction.ASC, "deliveryDate"))
+                .limit(limit);
+        query.fields().include("productName", "deliveryDate");
+        return mongoTemplate.find(query, Review.class);
+    }
+
+    private static List<Criteria> buildFilters(ReviewSearchCriteria criteria) {
         List<Criteria> filters = new ArrayList<>();
 
         if (criteria.getPlatformId() != null)
@@ -115,48 +497,172 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
             }
         }
 
-        if (criteria.getProductNameContains() != null && criteria.getOrderIdContains() != null) {
-            filters.add(new Criteria().orOperator(
-                    Criteria.where("productName").regex(criteria.getProductNameContains(), "i"),
-                    Criteria.where("orderId").regex(criteria.getOrderIdContains(), "i")));
-        } else if (criteria.getProductNameContains() != null) {
-            filters.add(Criteria.where("productName").regex(criteria.getProductNameContains(), "i"));
-        } else if (criteria.getOrderIdContains() != null) {
-            filters.add(Criteria.where("orderId").regex(criteria.getOrderIdContains(), "i"));
+        if (criteria.getDateRanges() != null) {
+            for (DateRange range : criteria.getDateRanges()) {
+                Criteria c = Criteria.where(range.field());
+                if (range.from() != null)
+                    c = c.gte(range.from());
+                if (range.to() != null)
+                    c = c.lte(range.to());
+                if (range.from() == null && range.to() == null)
+                    c = c.ne(null);
+                filters.add(c);
+            }
         }
+        if (criteria.getAmountRanges() != null) {
+            for (AmountRange range : criteria.getAmountRanges()) {
+                Criteria c = Criteria.where(range.field());
+                if (range.min() != null)
+                    c = c.gte(range.min());
+                if (range.max() != null)
+                    c = c.lte(range.max());
+                if (range.min() == null && range.max() == null)
+                    c = c.ne(null);
+                filters.add(c);
+            }
+        }
+        if (Boolean.TRUE.equals(criteria.getOverdue()))
+            filters.add(overdueCriteria(LocalDate.now().minusDays(OVERDUE_AFTER_DAYS)));
 
-        if (!filters.isEmpty()) {
-            query.addCriteria(new Criteria().andOperator(filters.toArray(new Criteria[0])));
+        // Quick search: if both provided, match productName OR orderId (not AND).
+        // Product names match word prefixes through searchTokens; order IDs match
+        // by anchored, escaped, case-insensitive prefix on the unique orderId index.
+        List<Criteria> quick = new ArrayList<>();
+        if (criteria.getProductNameContains() != null) {
+            Criteria tokens = tokensCriteria(SearchTokens.query(criteria.getProductNameContains()));
+            if (tokens != null)
+                quick.add(tokens);
         }
+        if (criteria.getOrderIdContains() != null && !criteria.getOrderIdContains().isBlank())
+            quick.add(orderIdPrefix(criteria.getOrderIdContains().trim()));
+        if (quick.size() == 1)
+            filters.add(quick.get(0));
+        else if (quick.size() > 1)
+            filters.add(new Criteria().orOperator(quick.toArray(new Criteria[0])));
+        else if (criteria.getProductNameContains() != null || criteria.getOrderIdContains() != null)
+            filters.add(Criteria.where("_id").exists(false)); // search text had no searchable characters
+        return filters;
+    }
 
-        List<Review> list = mongoTemplate.find(query, Review.class);
+    /**
+     * All query tokens present. Tokens of at least {@link SearchTokens#MIN_GRAM}
+     * characters are stored grams and match exactly; a shorter one is only stored
+     * for one-character words, so it matches as an anchored prefix of any token.
+     */
+    static Criteria tokensCriteria(List<String> tokens) {
+        List<String> grams = tokens.stream().filter(t -> t.length() >= SearchTokens.MIN_GRAM).toList();
+        List<Criteria> all = new ArrayList<>();
+        if (!grams.isEmpty())
+            all.add(Criteria.where("searchTokens").all(grams));
+        tokens.stream().filter(t -> t.length() < SearchTokens.MIN_GRAM)
+                .forEach(t -> all.add(Criteria.where("searchTokens").regex("^" + SearchTokens.escapeRegex(t))));
+        if (all.isEmpty())
+            return null;
+        return all.size() == 1 ? all.get(0) : new Criteria().andOperator(all.toArray(new Criteria[0]));
+    }
 
-        long count = list.size();
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        BigDecimal totalRefund = BigDecimal.ZERO;
-        BigDecimal totalPendingRefund = BigDecimal.ZERO;
+    /**
+     * Order IDs starting with the input, ignoring case. Both sides are normalized, so
+     * the regex stays case-sensitive and the orderIdKey index bounds it to the prefix range.
+     */
+    static Criteria orderIdPrefix(String prefix) {
+        return Criteria.where("orderIdKey").regex("^" + SearchTokens.escapeRegex(SearchTokens.orderIdKey(prefix)));
+    }
 
-        for (Review r : list) {
-            if (r.getAmountRupees() != null)
-                totalAmount = totalAmount.add(r.getAmountRupees());
-            BigDecimal refund = r.getRefundAmountRupees();
-            if (refund == null) {
-                if (r.getAmountRupees() != null && r.getLessRupees() != null) {
-                    refund = r.getAmountRupees().subtract(r.getLessRupees());
-                }
-            }
-            if (refund != null) {
-                totalRefund = totalRefund.add(refund);
-                if (r.getPaymentReceivedDate() == null) {
-                    totalPendingRefund = totalPendingRefund.add(refund);
-                }
-            }
+    /**
+     * Delivered before the cutoff with a step still open: for each deal type, any of
+     * its flow's date fields empty. The deliveryDate range is what an index serves;
+     * the per-type checks filter what it returns.
+     */
+    static Criteria overdueCriteria(LocalDate deliveredBefore) {
+        List<Criteria> open = new ArrayList<>();
+        List<String> namedTypes = DealFlow.all().keySet().stream()
+                .filter(t -> !t.equals(DealFlow.DEFAULT_DEAL_TYPE)).toList();
+        DealFlow.all().forEach((dealType, steps) -> {
+            Criteria type = dealType.equals(DealFlow.DEFAULT_DEAL_TYPE)
+                    ? Criteria.where("dealType").nin(namedTypes)
+                    : Criteria.where("dealType").is(dealType);
+            Criteria anyEmpty = new Criteria().orOperator(steps.stream()
+                    .map(f -> Criteria.where(f).is(null)).toArray(Criteria[]::new));
+            open.add(new Criteria().andOperator(type, anyEmpty));
+        });
+        return new Criteria().andOperator(Criteria.where("deliveryDate").lt(deliveredBefore),
+                new Criteria().orOperator(open.toArray(new Criteria[0])));
+    }
+
+    private static String searchText(ReviewSearchCriteria criteria) {
+        return criteria.getProductNameContains() != null ? criteria.getProductNameContains()
+                : criteria.getOrderIdContains();
+    }
+
+    /**
+     * Quick-search page ordered by relevance: exact order ID, then product names
+     * starting with the input, then names containing it, then the rest; newest first
+     * within each band.
+     */
+    private List<Review> searchByRelevance(List<Criteria> filters, String text, Pageable pageable,
+            Collection<String> fields) {
+        List<AggregationOperation> ops = new ArrayList<>();
+        if (!filters.isEmpty())
+            ops.add(Aggregation.match(matchAll(filters)));
+        ops.addAll(relevanceOrder(text));
+        ops.add(Aggregation.skip(pageable.getOffset()));
+        ops.add(Aggregation.limit(pageable.getPageSize()));
+        if (fields != null) {
+            Document include = new Document();
+            fields.forEach(f -> include.append(f, 1));
+            ops.add(context -> new Document("$project", include));
+        } else {
+            ops.add(context -> new Document("$project", new Document("_score", 0)));
         }
+        return mongoTemplate.aggregate(Aggregation.newAggregation(ops), "reviews", Review.class).getMappedResults();
+    }
+
+    /** Scores each review against the search text into {@code _score} and sorts by it. */
+    private static List<AggregationOperation> relevanceOrder(String text) {
+        // Both sides are normalized words joined by spaces, so accents, case and punctuation don't matter
+        String needle = SearchTokens.text(text);
+        Document name = new Document("$ifNull", Arrays.asList("$searchName",
+                new Document("$toLower", new Document("$ifNull", Arrays.asList("$productName", "")))));
+        Document position = new Document("$indexOfCP", Arrays.asList(name, needle));
+        Document orderIdKey = new Document("$ifNull", Arrays.asList("$orderIdKey",
+                new Document("$toLower", new Document("$ifNull", Arrays.asList("$orderId", "")))));
+        Document score = new Document("$add", Arrays.asList(
+                new Document("$cond", Arrays.asList(new Document("$eq",
+                        Arrays.asList(orderIdKey, SearchTokens.orderIdKey(text.trim()))), 100, 0)),
+                new Document("$cond", Arrays.asList(new Document("$eq", Arrays.asList(position, 0)), 10, 0)),
+                new Document("$cond", Arrays.asList(new Document("$gt", Arrays.asList(position, 0)), 5, 0))));
+
+        return List.of(
+                context -> new Document("$addFields", new Document("_score", score)),
+                context -> new Document("$sort", new Document("_score", -1).append("createdAt", -1).append("_id", 1)));
+    }
+
+    private static Document toDecimal(String fieldRef) {
+        return new Document("$convert", new Document("input", fieldRef)
+                .append("to", "decimal")
+                .append("onError", null)
+                .append("onNull", null));
+    }
+
+    private static Document isNull(String fieldRef) {
+        return new Document("$eq", Arrays.asList(new Document("$ifNull", Arrays.asList(fieldRef, null)), null));
+    }
+
+    private static Document flag(Document condition) {
+        return new Document("$cond", List.of(condition, 1, 0));
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        Number n = toNumber(value);
+        return n instanceof BigDecimal bd ? bd : new BigDecimal(n.toString());
+    }
 
-        return java.util.Map.of(
-                "count", count,
-                "totalAmount", totalAmount.doubleValue(),
-                "totalRefund", totalRefund.doubleValue(),
-                "totalPendingRefund", totalPendingRefund.doubleValue());
+    private static Number toNumber(Object value) {
+        if (value instanceof Decimal128 d)
+            return d.bigDecimalValue();
+        if (value instanceof Number n)
+            return n;
+        return 0;
     }
 }
@@ -14,6 +14,12 @@ public class ReviewSearchCriteria {
     private String dealType;
     private java.util.List<String> dealTypeIn;
     private Boolean hasRefundFormUrl;
+    // Every range must match (AND), each inclusive on its own date field
+    private java.util.List<DateRange> dateRanges;
+    // Every range must match (AND), each inclusive on its own amount field
+    private java.util.List<AmountRange> amountRanges;
+    // Delivered over a week ago with a step still open in its deal type's flow
+    private Boolean overdue;
 
     public ReviewSearchCriteria() {
     }
@@ -21,7 +27,8 @@ public class ReviewSearchCriteria {
     public ReviewSearchCriteria(String platformId, String status, java.util.List<String> statusIn,
             java.util.List<String> platformIdIn, String mediatorId, java.util.List<String> mediatorIdIn,
             String productNameContains, String orderIdContains, String dealType, java.util.List<String> dealTypeIn,
-            Boolean hasRefundFormUrl) {
+            Boolean hasRefundFormUrl, java.util.List<DateRange> dateRanges, java.util.List<AmountRange> amountRanges,
+            Boolean overdue) {
         this.platformId = platformId;
         this.status = status;
         this.statusIn = statusIn;
@@ -33,6 +40,9 @@ public class ReviewSearchCriteria {
         this.dealType = dealType;
         this.dealTypeIn = dealTypeIn;
         this.hasRefundFormUrl = hasRefundFormUrl;
+        this.dateRanges = dateRanges;
+        this.amountRanges = amountRanges;
+        this.overdue = overdue;
     }
 
     public static Builder builder() {
@@ -127,6 +137,30 @@ public class ReviewSearchCriteria {
         this.hasRefundFormUrl = hasRefundFormUrl;
     }
 
+    public java.util.List<DateRange> getDateRanges() {
+        return dateRanges;
+    }
+
+    public void setDateRanges(java.util.List<DateRange> dateRanges) {
+        this.dateRanges = dateRanges;
+    }
+
+    public java.util.List<AmountRange> getAmountRanges() {
+        return amountRanges;
+    }
+
+    public void setAmountRanges(java.util.List<AmountRange> amountRanges) {
+        this.amountRanges = amountRanges;
+    }
+
+    public Boolean getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(Boolean overdue) {
+        this.overdue = overdue;
+    }
+
     public static final class Builder {
         private String platformId;
         private String status;
@@ -139,6 +173,9 @@ public class ReviewSearchCriteria {
         private String dealType;
         private java.util.List<String> dealTypeIn;
         private Boolean hasRefundFormUrl;
+        private java.util.List<DateRange> dateRanges;
+        private java.util.List<AmountRange> amountRanges;
+        private Boolean overdue;
 
         private Builder() {
         }
@@ -198,9 +235,25 @@ public class ReviewSearchCriteria {
             return this;
         }
 
+        public Builder dateRanges(java.util.List<DateRange> dateRanges) {
+            this.dateRanges = dateRanges;
+            return this;
+        }
+
+        public Builder amountRanges(java.util.List<AmountRange> amountRanges) {
+            this.amountRanges = amountRanges;
+            return this;
+        }
+
+        public Builder overdue(Boolean overdue) {
+            this.overdue = overdue;
+            return this;
+        }
+
         public ReviewSearchCriteria build() {
             return new ReviewSearchCriteria(platformId, status, statusIn, platformIdIn, mediatorId, mediatorIdIn,
-                    productNameContains, orderIdContains, dealType, dealTypeIn, hasRefundFormUrl);
+                    productNameContains, orderIdContains, dealType, dealTypeIn, hasRefundFormUrl, dateRanges,
+                    amountRanges, overdue);
         }
     }
 }
@@ -0,0 +1,22 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link Review#getSearchTokens()} and {@link Review#getSearchName()} in
+ * step with the product name, and {@link Review#getOrderIdKey()} with the order ID,
+ * on every save, saveAll and bulk insert.
+ */
+@Component
+public class ReviewSearchTokenCallback implements BeforeConvertCallback<Review> {
+
+    @Override
+    public Review onBeforeConvert(Review review, String collection) {
+        review.setSearchTokens(SearchTokens.index(review.getProductName()));
+        review.setSearchName(SearchTokens.text(review.getProductName()));
+        review.setOrderIdKey(SearchTokens.orderIdKey(review.getOrderId()));
+        return review;
+    }
+}
@@ -0,0 +1,90 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized search tokens for a product name: every word, lower-cased with
+ * accents stripped, plus its edge n-grams ("blue" -> "bl", "blu", "blue"), so a
+ * word prefix is an exact match on the multikey-indexed {@code searchTokens} field.
+ * Words shorter than {@link #MIN_GRAM} are stored whole, so a one-character
+ * query term is looked up as an anchored prefix regex on the same index instead.
+ */
+public final class SearchTokens {
+    static final int MIN_GRAM = 2;
+    static final int MAX_GRAM = 15;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private SearchTokens() {
+    }
+
+    /** Tokens stored on the review. */
+    public static List<String> index(String text) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() < MIN_GRAM) {
+                out.add(word);
+                continue;
+            }
+            int max = Math.min(word.length(), MAX_GRAM);
+            for (int len = MIN_GRAM; len <= max; len++)
+                out.add(word.substring(0, len));
+        }
+        return new ArrayList<>(out);
+    }
+
+    /**
+     * Tokens to look up for user input: each word, cut to the longest stored gram.
+     * A review matches when it has all of them.
+     */
+    public static List<String> query(String text) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String word : words(text))
+            out.add(word.length() > MAX_GRAM ? word.substring(0, MAX_GRAM) : word);
+        return new ArrayList<>(out);
+    }
+
+    public static String normalize(String text) {
+        if (text == null)
+            return "";
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        return DIACRITICS.matcher(s).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /** The stored, prefix-searchable form of an order ID: normalized, so "OD-12" -> "od-12". */
+    public static String orderIdKey(String orderId) {
+        return orderId == null ? null : normalize(orderId);
+    }
+
+    /** Normalized words of the text joined by single spaces: "Crème  Brûlée-Kit" -> "creme brulee kit". */
+    public static String text(String text) {
+        return String.join(" ", words(text));
+    }
+
+    /** Normalized words of the text, in order. */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String w : SEPARATORS.split(normalize(text))) {
+            if (!w.isEmpty())
+                words.add(w);
+        }
+        return words;
+    }
+
+    /** Escapes regex metacharacters so input can be used as a literal, index-friendly ^prefix. */
+    public static String escapeRegex(String literal) {
+        StringBuilder sb = new StringBuilder(literal.length() + 8);
+        for (char c : literal.toCharArray()) {
+            if ("\\^$.|?*+()[]{}-/".indexOf(c) >= 0)
+                sb.append('\\');
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,173 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.domain.model.ReviewHistory;
+import com.vinishchoudhary.reviewtracker.repository.ReviewHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer for review history, active with {@code app.history.mode=async}.
+ * Entries are queued in memory and written with insertMany once
+ * {@code batch-size} entries are waiting or {@code flush-interval} has passed.
+ * When the queue stays full for {@code offer-timeout} the caller writes the
+ * entries itself, so a slow database pushes back on requests instead of losing
+ * history. On shutdown the queue is drained after the web server has stopped.
+ */
+@Component
+@ConditionalOnProperty(name = "app.history.mode", havingValue = "async")
+public class AsyncHistoryWriter implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AsyncHistoryWriter.class);
+
+    private final ReviewHistoryRepository historyRepo;
+    private final ChangeVersions changeVersions;
+    private final BlockingQueue<ReviewHistory> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+
+    private final Timer flushTimer;
+    private final DistributionSummary flushSize;
+    private final Counter backpressure;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncHistoryWriter(ReviewHistoryRepository historyRepo, ChangeVersions changeVersions, MeterRegistry meters,
+                              @Value("${app.history.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.history.batch-size:200}") int batchSize,
+                              @Value("${app.history.flush-interval:500ms}") Duration flushInterval,
+                              @Value("${app.history.offer-timeout:100ms}") Duration offerTimeout,
+                              @Value("${app.history.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.historyRepo = historyRepo;
+        this.changeVersions = changeVersions;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("review.history.queue.depth", queue, BlockingQueue::size)
+                .description("History entries waiting to be written")
+                .register(meters);
+        this.flushTimer = Timer.builder("review.history.flush")
+                .description("Time taken by one history insertMany")
+                .register(meters);
+        this.flushSize = DistributionSummary.builder("review.history.flush.size")
+                .description("Entries written per flush")
+                .register(meters);
+        this.backpressure = Counter.builder("review.history.backpressure")
+                .description("Entries written on the caller thread because the queue was full")
+                .register(meters);
+        this.failed = Counter.builder("review.history.failed")
+                .description("Entries that could not be written")
+                .register(meters);
+    }
+
+    public void enqueue(List<ReviewHistory> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            boolean queued;
+            try {
+                queued = running && queue.offer(entries.get(i), offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+            if (!queued) {
+                List<ReviewHistory> rest = entries.subList(i, entries.size());
+                backpressure.increment(rest.size());
+                historyRepo.insert(rest);
+                changeVersions.bump(ChangeVersions.REVIEW_HISTORY);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty())
+            log.warn("{} history entries still queued at shutdown", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server (graceful shutdown runs at DEFAULT_PHASE - 1024,
+    // the server itself at DEFAULT_PHASE - 2048) so in-flight requests can still enqueue.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<ReviewHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ReviewHistory first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    ReviewHistory next = remaining > 0 && running
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null)
+                        break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<ReviewHistory> batch) {
+        if (batch.isEmpty())
+            return;
+        try {
+            flushTimer.record(() -> historyRepo.insert(batch));
+            flushSize.record(batch.size());
+            changeVersions.bump(ChangeVersions.REVIEW_HISTORY);
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} history entries: {}", batch.size(), e.getMessage());
+        }
+    }
+}
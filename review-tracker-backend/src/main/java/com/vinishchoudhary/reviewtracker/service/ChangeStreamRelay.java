@@ -0,0 +1,210 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import com.vinishchoudhary.reviewtracker.domain.model.Notification;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds {@link LiveEventService} from a MongoDB change stream on the reviews and
+ * notifications collections, so every instance sees every write, and bumps
+ * {@link ChangeVersions} for writes to any tracked collection so entity tags stay
+ * valid across instances. Change streams
+ * need a replica set or sharded cluster: with {@code app.events.source=auto} the
+ * relay only starts when the server is one, otherwise events stay in-process.
+ * <p>
+ * Notification inserts that arrive together are pushed as one batch, and review
+ * updates that only rewrite the denormalized lookup names (a platform or
+ * mediator rename touches every matching review) are not pushed at all: the UI
+ * resolves names from its own lookup lists.
+ */
+@Component
+public class ChangeStreamRelay implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ChangeStreamRelay.class);
+    static final Set<String> LOOKUP_NAME_FIELDS = Set.of("platformName", "mediatorName");
+
+    private final MongoTemplate mongoTemplate;
+    private final LiveEventService liveEvents;
+    private final ChangeVersions changeVersions;
+    private final String source; // auto | change-stream | local
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ChangeStreamRelay(MongoTemplate mongoTemplate, LiveEventService liveEvents, ChangeVersions changeVersions,
+                             @Value("${app.events.source:auto}") String source) {
+        this.mongoTemplate = mongoTemplate;
+        this.liveEvents = liveEvents;
+        this.changeVersions = changeVersions;
+        this.source = source;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if ("local".equals(source) || ("auto".equals(source) && !changeStreamsSupported())) {
+            log.info("Live events use the in-process event bus");
+            return;
+        }
+        liveEvents.setChangeStreamActive(true);
+        worker = new Thread(this::run, "change-stream-relay");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Live events use MongoDB change streams");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(3));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private boolean changeStreamsSupported() {
+        try {
+            Document hello = mongoTemplate.getDb().runCommand(new Document("hello", 1));
+            return hello.containsKey("setName") || "isdbgrid".equals(hello.getString("msg"));
+        } catch (Exception e) {
+            log.warn("Could not detect MongoDB topology: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void run() {
+        BsonDocument resumeToken = null;
+        while (running) {
+            try {
+                var stream = mongoTemplate.getDb()
+                        .watch(List.of(Aggregates.match(Filters.in("ns.coll", ChangeVersions.TRACKED))))
+                        .fullDocument(FullDocument.UPDATE_LOOKUP)
+                        .maxAwaitTime(1, TimeUnit.SECONDS);
+                if (resumeToken != null)
+                    stream = stream.resumeAfter(resumeToken);
+                List<Notification> added = new ArrayList<>();
+                try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+                    while (running) {
+                        ChangeStreamDocument<Document> change = cursor.tryNext();
+                        if (change == null || !isNotificationInsert(change)
+                                || added.size() >= LiveEventService.MAX_NOTIFICATIONS_PER_PUSH)
+                            flush(added);
+                        if (change == null)
+                            continue;
+                        resumeToken = change.getResumeToken();
+                        dispatch(change, added);
+                    }
+                } finally {
+                    flush(added);
+                }
+            } catch (Exception e) {
+                if (!running)
+                    break;
+                log.warn("Change stream interrupted, retrying: {}", e.getMessage());
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException ie) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void flush(List<Notification> added) {
+        if (added.isEmpty())
+            return;
+        liveEvents.notificationsAdded(List.copyOf(added));
+        added.clear();
+    }
+
+    private static boolean isNotificationInsert(ChangeStreamDocument<Document> change) {
+        return change.getOperationType() == OperationType.INSERT && change.getNamespace() != null
+                && "notifications".equals(change.getNamespace().getCollectionName());
+    }
+
+    /** True when an update only sets or unsets {@code platformName}/{@code mediatorName}. */
+    static boolean isLookupRename(UpdateDescription update) {
+        if (update == null)
+            return false;
+        boolean touched = false;
+        if (update.getUpdatedFields() != null) {
+            if (!LOOKUP_NAME_FIELDS.containsAll(update.getUpdatedFields().keySet()))
+                return false;
+            touched = !update.getUpdatedFields().isEmpty();
+        }
+        if (update.getRemovedFields() != null) {
+            if (!LOOKUP_NAME_FIELDS.containsAll(update.getRemovedFields()))
+                return false;
+            touched |= !update.getRemovedFields().isEmpty();
+        }
+        return touched;
+    }
+
+    private void dispatch(ChangeStreamDocument<Document> change, List<Notification> added) {
+        if (change.getNamespace() == null || change.getDocumentKey() == null)
+            return;
+        String collection = change.getNamespace().getCollectionName();
+        // Covers writes from other instances too
+        changeVersions.bump(collection);
+        Document full = change.getFullDocument();
+        switch (change.getOperationType()) {
+            case INSERT:
+                if ("notifications".equals(collection) && full != null)
+                    added.add(mongoTemplate.getConverter().read(Notification.class, full));
+                else if ("reviews".equals(collection))
+                    liveEvents.reviewChanged("CREATE", idOf(change), readReview(full));
+                break;
+            case UPDATE:
+                if ("reviews".equals(collection) && !isLookupRename(change.getUpdateDescription()))
+                    liveEvents.reviewChanged("UPDATE", idOf(change), readReview(full));
+                break;
+            case REPLACE:
+                if ("reviews".equals(collection))
+                    liveEvents.reviewChanged("UPDATE", idOf(change), readReview(full));
+                break;
+            case DELETE:
+                if ("reviews".equals(collection))
+                    liveEvents.reviewChanged("DELETE", idOf(change), null);
+                break;
+            default:
+        }
+    }
+
+    private Review readReview(Document full) {
+        return full == null ? null : mongoTemplate.getConverter().read(Review.class, full);
+    }
+
+    private static String idOf(ChangeStreamDocument<Document> change) {
+        BsonValue id = change.getDocumentKey().get("_id");
+        if (id == null)
+            return null;
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+}
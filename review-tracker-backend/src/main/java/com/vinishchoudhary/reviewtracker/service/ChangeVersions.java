@@ -0,0 +1,66 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process change counter per collection, bumped by the write paths after a write
+ * lands. A GET's entity tag is built from the counters of the collections behind it,
+ * so a matching If-None-Match can be answered without reading Mongo. The epoch
+ * changes on restart, so tags from an earlier process never match.
+ * <p>
+ * The counters only see writes this process knows about. When
+ * {@link ChangeStreamRelay} is running, every instance also bumps them from the
+ * change stream on all {@link #TRACKED} collections, so writes made through another
+ * instance invalidate its tags too (after the stream's small delay). Without change
+ * streams (a standalone mongod) run a single backend instance: a second one would
+ * answer 304 for data the first has changed.
+ */
+@Component
+public class ChangeVersions {
+    public static final String REVIEWS = "reviews";
+    public static final String REVIEW_HISTORY = "review_history";
+    public static final String PLATFORMS = "platforms";
+    public static final String MEDIATORS = "mediators";
+    public static final String VIEW_PRESETS = "view_presets";
+    public static final String NOTIFICATIONS = "notifications";
+    public static final String NOTIFICATION_RULES = "notification_rules";
+    /** Every collection a {@code @ChangeTracked} read can depend on. */
+    public static final List<String> TRACKED = List.of(REVIEWS, REVIEW_HISTORY, PLATFORMS, MEDIATORS,
+            VIEW_PRESETS, NOTIFICATIONS, NOTIFICATION_RULES);
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public void bump(String collection) {
+        versions.computeIfAbsent(collection, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long version(String collection) {
+        AtomicLong v = versions.get(collection);
+        return v == null ? 0 : v.get();
+    }
+
+    /**
+     * Weak entity tag over the given collections. {@code daily} adds today's date for
+     * responses that count days relative to now.
+     */
+    public String etag(String[] collections, boolean daily) {
+        StringBuilder b = new StringBuilder("W/\"").append(epoch);
+        for (String c : collections)
+            b.append('.').append(version(c));
+        if (daily)
+            b.append('.').append(LocalDate.now());
+        return b.append('"').toString();
+    }
+
+    @EventListener
+    public void onReviewChange(ReviewChangeEvent event) {
+        bump(REVIEWS);
+    }
+}
@@ -0,0 +1,225 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.api.dto.DashboardStats;
+import com.vinishchoudhary.reviewtracker.domain.model.DashboardCounters;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.repository.ParallelReads;
+import com.vinishchoudhary.reviewtracker.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.Decimal128;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dashboard statistics served from a persisted counters document.
+ * Write paths publish {@link ReviewChangeEvent}s and the counters move by the
+ * difference between each review's old and new contribution; only the
+ * date-relative parts (overdue, action items) are evaluated at read time.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatsService.class);
+    static final int ACTION_ITEM_LIMIT = 5;
+    static final int RECONCILE_ATTEMPTS = 5;
+
+    private final ReviewRepository reviewRepo;
+    private final MongoTemplate mongoTemplate;
+    private final ParallelReads parallelReads;
+
+    public DashboardStats getDashboardStats() {
+        LocalDate today = LocalDate.now();
+        DashboardCounters c = mongoTemplate.findById(DashboardCounters.ID, DashboardCounters.class);
+        if (c == null)
+            c = reconcileCounters();
+
+        // Overdue (delivered > 7 days ago and no payment), and action items: delivered
+        // > 3 days ago and review not yet submitted, oldest first
+        record DateReads(long overdue, List<Review> awaiting) {
+        }
+        DateReads reads = parallelReads.both(() -> reviewRepo.countUnpaidDeliveredBefore(today.minusDays(7)),
+                () -> reviewRepo.findAwaitingReviewSubmission(today.minusDays(3), ACTION_ITEM_LIMIT),
+                DateReads::new);
+
+        List<DashboardStats.ActionItem> actions = new ArrayList<>();
+        for (Review r : reads.awaiting()) {
+            long days = ChronoUnit.DAYS.between(r.getDeliveryDate(), today);
+            actions.add(DashboardStats.ActionItem.builder()
+                    .id(r.getId())
+                    .type(days > 7 ? "URGENT" : "WARNING")
+                    .message("Submit review for " + r.getProductName() + " (Delivered " + days + " days ago)")
+                    .link("/reviews/edit/" + r.getId())
+                    .build());
+        }
+
+        BigDecimal totalSpent = orZero(c.getTotalSpent());
+        BigDecimal totalRefunded = orZero(c.getTotalRefunded());
+        return DashboardStats.builder()
+                .totalReviews(c.getTotalReviews())
+                .pendingReviewRating(c.getPendingReviewRating())
+                .pendingRefundForm(c.getPendingRefundForm())
+                .pendingPayment(c.getPendingPayment())
+                .overdue(reads.overdue())
+                .totalSpent(totalSpent)
+                .totalRefunded(totalRefunded)
+                .netCost(totalSpent.subtract(totalRefunded)) // this is gross net, actual net cost is totalSpent -
+                                                             // totalExpectedRefund
+                .pendingRefundAmount(orZero(c.getPendingRefundAmount()))
+                .actionItems(actions)
+                .build();
+    }
+
+    /** Rebuilds the counters from the reviews collection and replaces the stored document. */
+    public DashboardStats reconcile() {
+        reconcileCounters();
+        return getDashboardStats();
+    }
+
+    /**
+     * Rebuilds the counters and writes them only if no delta landed since the rebuild
+     * started (the version is unchanged); otherwise the aggregation is run again, so a
+     * concurrent $inc is never overwritten by an older snapshot.
+     */
+    private DashboardCounters reconcileCounters() {
+        DashboardCounters c = null;
+        for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+            DashboardCounters before = mongoTemplate.findById(DashboardCounters.ID, DashboardCounters.class);
+            c = reviewRepo.dashboardCounters();
+            c.setId(DashboardCounters.ID);
+            c.setReconciledAt(Instant.now());
+            if (replaceIfUnchanged(before, c)) {
+                log.info("Reconciled dashboard stats over {} review(s)", c.getTotalReviews());
+                return c;
+            }
+        }
+        log.warn("Dashboard stats kept changing during reconcile; keeping the incrementally updated counters");
+        DashboardCounters current = mongoTemplate.findById(DashboardCounters.ID, DashboardCounters.class);
+        return current != null ? current : c;
+    }
+
+    private boolean replaceIfUnchanged(DashboardCounters before, DashboardCounters c) {
+        if (before == null) {
+            try {
+                mongoTemplate.insert(c);
+                return true;
+            } catch (DuplicateKeyException e) {
+                return false; // another reconcile created it first
+            }
+        }
+        // documents written before the version field existed have none
+        Criteria unchanged = before.getVersion() == null ? Criteria.where("version").exists(false)
+                : Criteria.where("version").is(before.getVersion());
+        Update update = new Update()
+                .set("totalReviews", c.getTotalReviews())
+                .set("pendingReviewRating", c.getPendingReviewRating())
+                .set("pendingRefundForm", c.getPendingRefundForm())
+                .set("pendingPayment", c.getPendingPayment())
+                .set("totalSpent", new Decimal128(orZero(c.getTotalSpent())))
+                .set("totalRefunded", new Decimal128(orZero(c.getTotalRefunded())))
+                .set("pendingRefundAmount", new Decimal128(orZero(c.getPendingRefundAmount())))
+                .set("reconciledAt", c.getReconciledAt())
+                .inc("version", 1);
+        Query q = new Query(Criteria.where("_id").is(DashboardCounters.ID).andOperator(unchanged));
+        if (mongoTemplate.updateFirst(q, update, DashboardCounters.class).getMatchedCount() == 0)
+            return false;
+        c.setVersion(before.getVersion() == null ? 1 : before.getVersion() + 1);
+        return true;
+    }
+
+    @EventListener
+    public void onReviewChange(ReviewChangeEvent event) {
+        Contribution delta = Contribution.ZERO;
+        for (ReviewChangeEvent.Entry e : event.entries()) {
+            delta = delta.plus(Contribution.of(e.after())).minus(Contribution.of(e.before()));
+        }
+        if (delta.isZero())
+            return;
+        try {
+            // No upsert: until the first reconcile there is nothing to move, and the
+            // reconcile triggered by the next read already includes this write.
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(DashboardCounters.ID)),
+                    delta.toUpdate(), DashboardCounters.class);
+        } catch (Exception ex) {
+            log.warn("Dashboard stats delta for {} not applied; reconcile to repair: {}", event.action(),
+                    ex.getMessage());
+        }
+    }
+
+    private static BigDecimal orZero(BigDecimal v) {
+        return v == null ? BigDecimal.ZERO : v;
+    }
+
+    /** What a single review adds to the dashboard counters. */
+    record Contribution(long total, long pendingReview, long pendingRefund, long pendingPayment,
+            BigDecimal spent, BigDecimal refunded, BigDecimal pendingRefundAmount) {
+        static final Contribution ZERO = new Contribution(0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO);
+
+        static Contribution of(Review r) {
+            if (r == null)
+                return ZERO;
+            String status = r.getStatus();
+            long pendingReview = 0;
+            long pendingRefund = 0;
+            if ("ordered".equals(status) || "delivered".equals(status))
+                pendingReview = 1;
+            else if ("review submitted".equals(status) || "review accepted".equals(status)
+                    || "rating submitted".equals(status)) {
+                if (r.getRefundFormSubmittedDate() == null)
+                    pendingRefund = 1;
+            }
+            long pendingPayment = "refund form submitted".equals(status) ? 1 : 0;
+
+            BigDecimal refund = r.getRefundAmountRupees();
+            boolean paid = r.getPaymentReceivedDate() != null;
+            return new Contribution(1, pendingReview, pendingRefund, pendingPayment,
+                    orZero(r.getAmountRupees()),
+                    refund != null && paid ? refund : BigDecimal.ZERO,
+                    refund != null && !paid ? refund : BigDecimal.ZERO);
+        }
+
+        Contribution plus(Contribution o) {
+            return new Contribution(total + o.total, pendingReview + o.pendingReview,
+                    pendingRefund + o.pendingRefund, pendingPayment + o.pendingPayment,
+                    spent.add(o.spent), refunded.add(o.refunded), pendingRefundAmount.add(o.pendingRefundAmount));
+        }
+
+        Contribution minus(Contribution o) {
+            return new Contribution(total - o.total, pendingReview - o.pendingReview,
+                    pendingRefund - o.pendingRefund, pendingPayment - o.pendingPayment,
+                    spent.subtract(o.spent), refunded.subtract(o.refunded),
+                    pendingRefundAmount.subtract(o.pendingRefundAmount));
+        }
+
+        boolean isZero() {
+            return total == 0 && pendingReview == 0 && pendingRefund == 0 && pendingPayment == 0
+                    && spent.signum() == 0 && refunded.signum() == 0 && pendingRefundAmount.signum() == 0;
+        }
+
+        Update toUpdate() {
+            return new Update()
+                    .inc("totalReviews", total)
+                    .inc("pendingReviewRating", pendingReview)
+                    .inc("pendingRefundForm", pendingRefund)
+                    .inc("pendingPayment", pendingPayment)
+                    .inc("totalSpent", new Decimal128(spent))
+                    .inc("totalRefunded", new Decimal128(refunded))
+                    .inc("pendingRefundAmount", new Decimal128(pendingRefundAmount))
+                    .inc("version", 1);
+        }
+    }
+}
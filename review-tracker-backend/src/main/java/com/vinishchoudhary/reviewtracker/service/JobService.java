@@ -0,0 +1,180 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.api.dto.ImportReport;
+import com.vinishchoudhary.reviewtracker.api.error.BadRequestException;
+import com.vinishchoudhary.reviewtracker.api.error.NotFoundException;
+import com.vinishchoudhary.reviewtracker.domain.model.Job;
+import com.vinishchoudhary.reviewtracker.repository.JobRepository;
+import com.vinishchoudhary.reviewtracker.repository.ReviewSearchCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Runs CSV imports and exports off the request thread. A job document in the
+ * {@code jobs} collection tracks status and progress; the uploaded file (import)
+ * or generated CSV (export) lives in {@code app.jobs.dir}.
+ */
+@Service
+public class JobService {
+    private static final Logger log = LoggerFactory.getLogger(JobService.class);
+    static final int MAX_JOB_ERRORS = 100;
+
+    private final JobRepository jobRepo;
+    private final MongoTemplate mongoTemplate;
+    private final ReviewService reviewService;
+    private final TaskExecutor jobExecutor;
+    private final Path jobDir;
+
+    public JobService(JobRepository jobRepo, MongoTemplate mongoTemplate, ReviewService reviewService,
+                      @Qualifier("jobExecutor") TaskExecutor jobExecutor,
+                      @Value("${app.jobs.dir:${java.io.tmpdir}/review-tracker-jobs}") String jobDir) {
+        this.jobRepo = jobRepo;
+        this.mongoTemplate = mongoTemplate;
+        this.reviewService = reviewService;
+        this.jobExecutor = jobExecutor;
+        this.jobDir = Paths.get(jobDir);
+    }
+
+    public Job submitImport(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty())
+            throw new BadRequestException("CSV file is required");
+        Job job = jobRepo.save(newJob(Job.TYPE_IMPORT, file.getOriginalFilename()));
+        Path upload = artifactFile(job, "upload.csv");
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, upload);
+        }
+        job.setArtifactPath(upload.toString());
+        jobRepo.save(job);
+        return submit(job, () -> runImport(job.getId(), upload));
+    }
+
+    public Job submitExport(ReviewSearchCriteria criteria) throws IOException {
+        Job job = jobRepo.save(newJob(Job.TYPE_EXPORT, "reviews.csv"));
+        Path out = artifactFile(job, "reviews.csv");
+        job.setArtifactPath(out.toString());
+        jobRepo.save(job);
+        ReviewSearchCriteria c = criteria != null ? criteria : new ReviewSearchCriteria();
+        return submit(job, () -> runExport(job.getId(), c, out));
+    }
+
+    public Job get(String id) {
+        return jobRepo.findById(id).orElseThrow(() -> new NotFoundException("Job not found: " + id));
+    }
+
+    public List<Job> recent() {
+        return jobRepo.findTop50ByOrderByCreatedAtDesc();
+    }
+
+    /** The finished export file of a job; only exports that succeeded have one. */
+    public Path artifact(String id) {
+        Job job = get(id);
+        if (!Job.TYPE_EXPORT.equals(job.getType()))
+            throw new BadRequestException("Job " + id + " has no downloadable artifact");
+        if (!Job.SUCCEEDED.equals(job.getStatus()))
+            throw new BadRequestException("Job " + id + " is " + job.getStatus());
+        Path p = job.getArtifactPath() != null ? Paths.get(job.getArtifactPath()) : null;
+        if (p == null || !Files.isReadable(p))
+            throw new NotFoundException("Artifact for job " + id + " is no longer available");
+        return p;
+    }
+
+    private Job submit(Job job, Runnable work) {
+        try {
+            jobExecutor.execute(work);
+        } catch (TaskRejectedException ex) {
+            finish(job.getId(), Job.FAILED, "Job queue is full");
+            throw ex;
+        }
+        return job;
+    }
+
+    private void runImport(String id, Path upload) {
+        start(id);
+        try (InputStream in = Files.newInputStream(upload)) {
+            ImportReport report = reviewService.importCsv(in, r -> progress(id, r));
+            finish(id, Job.SUCCEEDED, report.getImported() + " imported, " + report.getFailed() + " failed");
+        } catch (Exception ex) {
+            log.warn("Import job {} failed", id, ex);
+            finish(id, Job.FAILED, ex.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private void runExport(String id, ReviewSearchCriteria criteria, Path out) {
+        start(id);
+        try (OutputStream os = Files.newOutputStream(out)) {
+            reviewService.exportCsv(criteria, os, rows -> mongoTemplate.updateFirst(byId(id),
+                    new Update().set("rowsProcessed", rows).set("rowsSucceeded", rows), Job.class));
+            finish(id, Job.SUCCEEDED, null);
+        } catch (Exception ex) {
+            log.warn("Export job {} failed", id, ex);
+            finish(id, Job.FAILED, ex.getMessage());
+        }
+    }
+
+    private void start(String id) {
+        mongoTemplate.updateFirst(byId(id),
+                new Update().set("status", Job.RUNNING).set("startedAt", Instant.now()), Job.class);
+    }
+
+    private void progress(String id, ImportReport r) {
+        List<String> errors = r.getErrors().stream()
+                .limit(MAX_JOB_ERRORS)
+                .map(e -> "Line " + e.getLine() + (e.getOrderId() != null ? " (" + e.getOrderId() + ")" : "")
+                        + ": " + e.getMessage())
+                .toList();
+        mongoTemplate.updateFirst(byId(id), new Update()
+                .set("rowsProcessed", r.getImported() + r.getFailed())
+                .set("rowsSucceeded", r.getImported())
+                .set("errorCount", r.getFailed())
+                .set("errors", errors), Job.class);
+    }
+
+    private void finish(String id, String status, String message) {
+        mongoTemplate.updateFirst(byId(id), new Update()
+                .set("status", status)
+                .set("message", message)
+                .set("finishedAt", Instant.now()), Job.class);
+    }
+
+    private Path artifactFile(Job job, String name) throws IOException {
+        Files.createDirectories(jobDir);
+        return jobDir.resolve(job.getId() + "-" + name);
+    }
+
+    private static Job newJob(String type, String fileName) {
+        return Job.builder()
+                .type(type)
+                .status(Job.QUEUED)
+                .fileName(fileName)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private static Query byId(String id) {
+        return new Query(Criteria.where("_id").is(id));
+    }
+}
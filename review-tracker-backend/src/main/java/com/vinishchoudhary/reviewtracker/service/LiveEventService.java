@@ -0,0 +1,202 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Notification;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.repository.NotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent events for connected UIs. Events:
+ * <ul>
+ * <li>{@code review}: {@code {action, id, review}}; review is null for deletes</li>
+ * <li>{@code notification}: a new {@code NotificationItem}</li>
+ * <li>{@code unread-count}: {@code {count}}</li>
+ * </ul>
+ * By default events come from this process's {@link ReviewChangeEvent}s and
+ * {@link NotificationsAddedEvent}s. When {@link ChangeStreamRelay} is watching
+ * MongoDB it feeds events instead, so writes made by other instances reach
+ * every client too.
+ * <p>
+ * Each client has its own bounded queue; a client that falls
+ * {@code app.events.queue-size} events behind is disconnected rather than
+ * holding memory for it; its EventSource reconnects on its own.
+ */
+@Service
+public class LiveEventService {
+    private static final Logger log = LoggerFactory.getLogger(LiveEventService.class);
+    static final int MAX_NOTIFICATIONS_PER_PUSH = 50;
+
+    private final NotificationRepository notificationRepo;
+    private final Duration timeout;
+    private final int queueSize;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // Sends happen off the writing request thread; each client drains its own queue in publish order
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "sse-sender");
+        t.setDaemon(true);
+        return t;
+    });
+    // At most one unread-count query is queued however many notifications arrive meanwhile
+    private final AtomicBoolean unreadCountPending = new AtomicBoolean();
+    private volatile boolean changeStreamActive;
+
+    public LiveEventService(NotificationRepository notificationRepo,
+                            @Value("${app.events.timeout:30m}") Duration timeout,
+                            @Value("${app.events.queue-size:256}") int queueSize) {
+        this.notificationRepo = notificationRepo;
+        this.timeout = timeout;
+        this.queueSize = queueSize;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, queueSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        try {
+            emitter.send(SseEmitter.event().name("ready").data(Map.of("source",
+                    changeStreamActive ? "change-stream" : "local")));
+        } catch (IOException e) {
+            return emitter;
+        }
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    void setChangeStreamActive(boolean active) {
+        this.changeStreamActive = active;
+    }
+
+    // ---------- Sources ----------
+
+    @EventListener
+    public void onReviewChange(ReviewChangeEvent event) {
+        if (changeStreamActive || subscribers.isEmpty())
+            return;
+        for (ReviewChangeEvent.Entry e : event.entries())
+            reviewChanged(event.action(), e.id(), e.after());
+    }
+
+    @EventListener
+    public void onNotificationsAdded(NotificationsAddedEvent event) {
+        if (changeStreamActive || subscribers.isEmpty())
+            return;
+        notificationsAdded(event.added());
+    }
+
+    void reviewChanged(String action, String id, Review review) {
+        broadcast("review", new ReviewDelta(action, id, review));
+    }
+
+    void notificationsAdded(List<Notification> added) {
+        LocalDate today = LocalDate.now();
+        added.stream()
+                .filter(n -> !n.isDismissed())
+                .limit(MAX_NOTIFICATIONS_PER_PUSH)
+                .forEach(n -> broadcast("notification", NotificationService.toItem(n, today)));
+        if (unreadCountPending.compareAndSet(false, true))
+            sender.execute(() -> {
+                unreadCountPending.set(false);
+                broadcast("unread-count", Map.of("count", notificationRepo.countByDismissedFalseAndReadFalse()));
+            });
+    }
+
+    // Keeps idle connections open through proxies and notices clients that went away
+    @Scheduled(fixedRateString = "${app.events.heartbeat:25s}")
+    public void heartbeat() {
+        broadcast(null, null);
+    }
+
+    private void broadcast(String name, Object data) {
+        Event event = new Event(name, data);
+        for (Subscriber subscriber : subscribers)
+            subscriber.offer(event);
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+        try {
+            subscriber.emitter.complete();
+        } catch (Exception ignored) {
+            // already closed
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(s -> s.emitter.complete());
+        sender.shutdown();
+    }
+
+    public record ReviewDelta(String action, String id, Review review) {
+    }
+
+    // A null name is a heartbeat comment
+    private record Event(String name, Object data) {
+        SseEmitter.SseEventBuilder toSse() {
+            return name == null ? SseEmitter.event().comment("ping") : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<Event> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void offer(Event event) {
+            if (!queue.offer(event)) {
+                log.debug("Dropping SSE subscriber that is {} events behind", queue.size());
+                drop(this);
+                return;
+            }
+            if (draining.compareAndSet(false, true))
+                sender.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                for (Event event = queue.poll(); event != null; event = queue.poll())
+                    emitter.send(event.toSse());
+            } catch (Exception e) {
+                log.debug("Dropping SSE subscriber: {}", e.getMessage());
+                drop(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // Picks up events offered after the last poll but before the flag was cleared
+            if (!queue.isEmpty() && draining.compareAndSet(false, true))
+                sender.execute(this::drain);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of a whole, small lookup collection. The first read loads
+ * every document; writes must call {@link #invalidate()} once they are stored,
+ * and the next read loads again. A load that overlaps a write is used for that
+ * read only and never installed, so a stale list cannot outlive the write.
+ */
+final class LookupCache<T> {
+    /** One consistent load: items in load order and the same items by id. */
+    record Snapshot<T>(List<T> items, Map<String, T> byId) {
+    }
+
+    private final Supplier<List<T>> loader;
+    private final Function<T, String> id;
+    // Sortable properties -> key; Mongo order (nulls first ascending) is kept
+    private final Map<String, Function<T, String>> sortKeys;
+    private long generation;
+    private volatile Snapshot<T> snapshot;
+
+    LookupCache(Supplier<List<T>> loader, Function<T, String> id, Map<String, Function<T, String>> sortKeys) {
+        this.loader = loader;
+        this.id = id;
+        this.sortKeys = sortKeys;
+    }
+
+    Snapshot<T> get() {
+        Snapshot<T> s = snapshot;
+        if (s != null)
+            return s;
+        long gen;
+        synchronized (this) {
+            gen = generation;
+        }
+        List<T> items = List.copyOf(loader.get());
+        Map<String, T> byId = new HashMap<>();
+        items.forEach(item -> byId.put(id.apply(item), item));
+        s = new Snapshot<>(items, Map.copyOf(byId));
+        synchronized (this) {
+            if (generation == gen)
+                snapshot = s;
+        }
+        return s;
+    }
+
+    synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    /** A page of the cached items, sorted in memory; unknown sort properties are ignored. */
+    Page<T> page(Pageable pageable) {
+        List<T> sorted = new ArrayList<>(get().items());
+        Comparator<T> order = null;
+        for (Sort.Order o : pageable.getSort()) {
+            Function<T, String> key = sortKeys.get(o.getProperty());
+            if (key == null)
+                continue;
+            Comparator<T> c = Comparator.comparing(key, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+            if (o.isDescending())
+                c = c.reversed();
+            order = order == null ? c : order.thenComparing(c);
+        }
+        if (order != null)
+            sorted.sort(order);
+        if (pageable.isUnpaged())
+            return new PageImpl<>(sorted);
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+}
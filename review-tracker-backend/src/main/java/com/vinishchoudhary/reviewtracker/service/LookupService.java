@@ -4,33 +4,125 @@ import com.vinishchoudhary.reviewtracker.domain.model.Mediator;
 import com.vinishchoudhary.reviewtracker.domain.model.Platform;
 import com.vinishchoudhary.reviewtracker.repository.MediatorRepository;
 import com.vinishchoudhary.reviewtracker.repository.PlatformRepository;
-import lombok.RequiredArgsConstructor;
+import com.vinishchoudhary.reviewtracker.repository.ReviewRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Platforms and mediators, served from memory. Both sets are small and rarely
+ * change, so each is loaded whole on first use and reloaded after a write through
+ * this service. Writes made directly to Mongo are not seen until the next write
+ * or restart.
+ * <p>
+ * Reviews carry a copy of each name (see {@link ReviewLookupNameCallback}); saving
+ * or deleting a platform or mediator rewrites the copies with one updateMany.
+ */
 @Service
-@RequiredArgsConstructor
 public class LookupService {
     private final PlatformRepository platformRepo;
     private final MediatorRepository mediatorRepo;
+    private final ReviewRepository reviewRepo;
+    private final ChangeVersions changeVersions;
+    private final LookupCache<Platform> platforms;
+    private final LookupCache<Mediator> mediators;
 
-    public Page<Platform> allPlatforms(Pageable pageable) { return platformRepo.findAll(pageable); }
+    public LookupService(PlatformRepository platformRepo, MediatorRepository mediatorRepo,
+                         ReviewRepository reviewRepo, ChangeVersions changeVersions) {
+        this.platformRepo = platformRepo;
+        this.mediatorRepo = mediatorRepo;
+        this.reviewRepo = reviewRepo;
+        this.changeVersions = changeVersions;
+        this.platforms = new LookupCache<>(platformRepo::findAll, Platform::getId,
+                Map.of("id", Platform::getId, "name", Platform::getName));
+        this.mediators = new LookupCache<>(mediatorRepo::findAll, Mediator::getId,
+                Map.of("id", Mediator::getId, "name", Mediator::getName, "phone", Mediator::getPhone));
+    }
+
+    public Page<Platform> allPlatforms(Pageable pageable) { return platforms.page(pageable); }
 
     public Platform savePlatform(Platform p) {
-        return platformRepo.save(p);
+        Platform saved;
+        try {
+            saved = platformRepo.save(p);
+        } finally {
+            platforms.invalidate();
+            changeVersions.bump(ChangeVersions.PLATFORMS);
+        }
+        if (reviewRepo.updatePlatformName(saved.getId(), saved.getName()) > 0)
+            changeVersions.bump(ChangeVersions.REVIEWS);
+        return saved;
     }
 
     // Status lookups removed — status is computed and static
 
-    public Page<Mediator> allMediators(Pageable pageable) { return mediatorRepo.findAll(pageable); }
+    public Page<Mediator> allMediators(Pageable pageable) { return mediators.page(pageable); }
 
     public Mediator saveMediator(Mediator m) {
-        return mediatorRepo.save(m);
+        Mediator saved;
+        try {
+            saved = mediatorRepo.save(m);
+        } finally {
+            mediators.invalidate();
+            changeVersions.bump(ChangeVersions.MEDIATORS);
+        }
+        if (reviewRepo.updateMediatorName(saved.getId(), saved.getName()) > 0)
+            changeVersions.bump(ChangeVersions.REVIEWS);
+        return saved;
+    }
+
+    public void deletePlatform(String id) {
+        try {
+            platformRepo.deleteById(id);
+        } finally {
+            platforms.invalidate();
+            changeVersions.bump(ChangeVersions.PLATFORMS);
+        }
+        if (reviewRepo.updatePlatformName(id, null) > 0)
+            changeVersions.bump(ChangeVersions.REVIEWS);
     }
 
-    public void deletePlatform(String id) { platformRepo.deleteById(id); }
-    public void deleteMediator(String id) { mediatorRepo.deleteById(id); }
+    public void deleteMediator(String id) {
+        try {
+            mediatorRepo.deleteById(id);
+        } finally {
+            mediators.invalidate();
+            changeVersions.bump(ChangeVersions.MEDIATORS);
+        }
+        if (reviewRepo.updateMediatorName(id, null) > 0)
+            changeVersions.bump(ChangeVersions.REVIEWS);
+    }
+
+    public Map<String, Platform> platformsById() { return platforms.get().byId(); }
+
+    public Map<String, Mediator> mediatorsById() { return mediators.get().byId(); }
+
+    /** Name of the platform, or null when the id is null or unknown. */
+    public String platformName(String id) {
+        Platform p = id == null ? null : platformsById().get(id);
+        return p != null ? p.getName() : null;
+    }
+
+    /** Name of the mediator, or null when the id is null or unknown. */
+    public String mediatorName(String id) {
+        Mediator m = id == null ? null : mediatorsById().get(id);
+        return m != null ? m.getName() : null;
+    }
+
+    /** Platform id to name, for resolving names server-side. */
+    public Map<String, String> platformNames() {
+        Map<String, String> names = new HashMap<>();
+        platformsById().forEach((id, p) -> names.put(id, p.getName()));
+        return names;
+    }
+
+    /** Mediator id to name, for resolving names server-side. */
+    public Map<String, String> mediatorNames() {
+        Map<String, String> names = new HashMap<>();
+        mediatorsById().forEach((id, m) -> names.put(id, m.getName()));
+        return names;
+    }
 }
@@ -0,0 +1,318 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.api.dto.NotificationItem;
+import com.vinishchoudhary.reviewtracker.api.dto.PageResponse;
+import com.vinishchoudhary.reviewtracker.api.error.BadRequestException;
+import com.vinishchoudhary.reviewtracker.api.error.NotFoundException;
+import com.vinishchoudhary.reviewtracker.domain.model.Mediator;
+import com.vinishchoudhary.reviewtracker.domain.model.Notification;
+import com.vinishchoudhary.reviewtracker.domain.model.NotificationRule;
+import com.vinishchoudhary.reviewtracker.domain.model.Platform;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.domain.model.Step;
+import com.vinishchoudhary.reviewtracker.repository.NotificationRepository;
+import com.vinishchoudhary.reviewtracker.repository.NotificationRuleRepository;
+import com.vinishchoudhary.reviewtracker.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Notification inbox backed by the materialized {@code notifications} collection.
+ * The whole inbox is rebuilt at midnight (when day counts roll over); in between,
+ * review writes and rule edits re-evaluate only the affected review or rule.
+ * Reads are indexed queries on the collection.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+    static final int MAX_PAGE_SIZE = 200;
+    private static final int WRITE_BATCH_SIZE = 500;
+
+    private final ReviewRepository reviewRepo;
+    private final NotificationRuleRepository ruleRepo;
+    private final NotificationRepository notificationRepo;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher events;
+    private final LookupService lookupService;
+    private final ChangeVersions changeVersions;
+
+    // ---------- Inbox ----------
+
+    /** Undismissed notifications, most urgent first: rule type, then oldest trigger date. */
+    public PageResponse<NotificationItem> getNotifications(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE)
+            throw new BadRequestException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        Sort sort = Sort.by("typeRank", "triggerDate", "_id");
+        Page<Notification> result = notificationRepo.findByDismissedFalse(PageRequest.of(page, size, sort));
+        LocalDate today = LocalDate.now();
+        List<NotificationItem> items = result.getContent().stream().map(n -> toItem(n, today)).toList();
+        return new PageResponse<>(items, page, size, result.getTotalElements(), result.getTotalPages(),
+                "urgency", "DESC");
+    }
+
+    public long unreadCount() {
+        return notificationRepo.countByDismissedFalseAndReadFalse();
+    }
+
+    public void markRead(String id) {
+        setFlag(id, "read");
+    }
+
+    public void dismiss(String id) {
+        setFlag(id, "dismissed");
+    }
+
+    public void markAllRead() {
+        mongoTemplate.updateMulti(new Query(Criteria.where("read").is(false)), new Update().set("read", true),
+                Notification.class);
+        changeVersions.bump(ChangeVersions.NOTIFICATIONS);
+    }
+
+    private void setFlag(String id, String flag) {
+        var res = mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)), new Update().set(flag, true),
+                Notification.class);
+        if (res.getMatchedCount() == 0)
+            throw new NotFoundException("Notification not found: " + id);
+        changeVersions.bump(ChangeVersions.NOTIFICATIONS);
+    }
+
+    // ---------- Rules ----------
+
+    public NotificationRule saveRule(NotificationRule rule) {
+        // both fields name a step date; anything else would make the stored query and matches() disagree
+        if (Step.forField(rule.getTriggerField()) == null)
+            throw new BadRequestException("Unsupported trigger field: " + rule.getTriggerField());
+        if (rule.getMissingField() != null && !rule.getMissingField().isBlank()
+                && Step.forField(rule.getMissingField()) == null)
+            throw new BadRequestException("Unsupported missing field: " + rule.getMissingField());
+        NotificationRule saved = ruleRepo.save(rule);
+        changeVersions.bump(ChangeVersions.NOTIFICATION_RULES);
+        Instant stamp = Instant.now();
+        if (saved.isActive())
+            evaluateRule(saved, LocalDate.now(), stamp);
+        removeStale(saved.getId(), stamp);
+        return saved;
+    }
+
+    public void deleteRule(String id) {
+        ruleRepo.deleteById(id);
+        changeVersions.bump(ChangeVersions.NOTIFICATION_RULES);
+        mongoTemplate.remove(new Query(Criteria.where("ruleId").is(id)), Notification.class);
+        changeVersions.bump(ChangeVersions.NOTIFICATIONS);
+    }
+
+    // ---------- Materialization ----------
+
+    @Scheduled(cron = "${app.notifications.rebuild-cron:0 0 0 * * *}")
+    public void rebuild() {
+        Instant stamp = Instant.now();
+        LocalDate today = LocalDate.now();
+        for (NotificationRule rule : ruleRepo.findByActiveTrue())
+            evaluateRule(rule, today, stamp);
+        // Anything not confirmed by this pass: resolved, or its rule is gone or inactive
+        long removed = removeStale(null, stamp);
+        log.info("Rebuilt notifications ({} stale removed)", removed);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Notification rebuild at startup failed: {}", e.getMessage());
+        }
+    }
+
+    /** Re-evaluates all active rules for just the reviews touched by a write. */
+    @EventListener
+    public void onReviewChange(ReviewChangeEvent event) {
+        try {
+            List<RuleMatcher> rules = ruleRepo.findByActiveTrue().stream().map(RuleMatcher::of).toList();
+            LocalDate today = LocalDate.now();
+            Instant stamp = Instant.now();
+            BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class);
+            int n = 0;
+            for (ReviewChangeEvent.Entry e : event.entries()) {
+                Review r = e.after();
+                if (r == null) {
+                    ops.remove(new Query(Criteria.where("reviewId").is(e.id())));
+                    n++;
+                    continue;
+                }
+                for (RuleMatcher rule : rules) {
+                    if (rule.matches(r, today))
+                        upsert(ops, rule.rule(), r, today, stamp);
+                    else
+                        ops.remove(new Query(Criteria.where("_id").is(idFor(rule.rule(), r))));
+                    n++;
+                }
+            }
+            if (n > 0)
+                publishAdded(ops.execute());
+        } catch (Exception ex) {
+            log.warn("Notifications for {} not re-evaluated; next rebuild will repair: {}", event.action(),
+                    ex.getMessage());
+        }
+    }
+
+    private void evaluateRule(NotificationRule rule, LocalDate today, Instant stamp) {
+        try (Stream<Review> matches = reviewRepo.streamRuleMatches(rule, today)) {
+            Iterator<Review> it = matches.iterator();
+            while (it.hasNext()) {
+                BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class);
+                int n = 0;
+                while (it.hasNext() && n < WRITE_BATCH_SIZE) {
+                    upsert(ops, rule, it.next(), today, stamp);
+                    n++;
+                }
+                publishAdded(ops.execute());
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping notification rule {}: {}", rule.getId(), e.getMessage());
+        }
+    }
+
+    private void publishAdded(BulkWriteResult result) {
+        changeVersions.bump(ChangeVersions.NOTIFICATIONS);
+        if (result.getUpserts().isEmpty())
+            return;
+        List<Object> ids = result.getUpserts().stream().map(u -> (Object) u.getId().asString().getValue()).toList();
+        List<Notification> added = mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), Notification.class);
+        events.publishEvent(new NotificationsAddedEvent(added));
+    }
+
+    /** Removes notifications (of one rule, or all when null) not re-confirmed since {@code stamp}. */
+    private long removeStale(String ruleId, Instant stamp) {
+        Criteria c = Criteria.where("evaluatedAt").lt(stamp);
+        if (ruleId != null)
+            c = c.and("ruleId").is(ruleId);
+        Query q = new Query(c);
+        long removed = mongoTemplate.remove(q, Notification.class).getDeletedCount();
+        if (removed > 0)
+            changeVersions.bump(ChangeVersions.NOTIFICATIONS);
+        return removed;
+    }
+
+    private void upsert(BulkOperations ops, NotificationRule rule, Review r, LocalDate today, Instant stamp) {
+        LocalDate trigger = getDate(r, rule.getTriggerField());
+        long days = ChronoUnit.DAYS.between(trigger, today);
+        Update u = new Update()
+                .set("reviewId", r.getId())
+                .set("ruleId", rule.getId())
+                .set("orderId", r.getOrderId())
+                .set("type", rule.getType())
+                .set("typeRank", typeRank(rule.getType()))
+                .set("title", rule.getName())
+                .set("message", message(rule.getMessageTemplate(), r, days))
+                .set("actionUrl", rule.getActionUrl() != null ? rule.getActionUrl().replace("{id}", r.getId())
+                        : "/reviews/edit/" + r.getId())
+                .set("triggerDate", trigger)
+                .set("evaluatedAt", stamp)
+                .setOnInsert("read", false)
+                .setOnInsert("dismissed", false)
+                .setOnInsert("createdAt", stamp);
+        ops.upsert(new Query(Criteria.where("_id").is(idFor(rule, r))), u);
+    }
+
+    /** Fills {orderId}, {days}, {platform} and {mediator}; names come from the lookup cache. */
+    private String message(String template, Review r, long days) {
+        if (template == null)
+            return null;
+        String msg = template
+                .replace("{orderId}", r.getOrderId() == null ? "?" : r.getOrderId())
+                .replace("{days}", String.valueOf(days));
+        if (msg.contains("{platform}")) {
+            Platform p = r.getPlatformId() == null ? null : lookupService.platformsById().get(r.getPlatformId());
+            msg = msg.replace("{platform}", p != null && p.getName() != null ? p.getName() : "?");
+        }
+        if (msg.contains("{mediator}")) {
+            Mediator m = r.getMediatorId() == null ? null : lookupService.mediatorsById().get(r.getMediatorId());
+            msg = msg.replace("{mediator}", m != null && m.getName() != null ? m.getName() : "?");
+        }
+        return msg;
+    }
+
+    /** In-memory twin of the rule query in ReviewRepositoryImpl, for a single review. */
+    static boolean matches(NotificationRule rule, Review r, LocalDate today) {
+        return RuleMatcher.of(rule).matches(r, today);
+    }
+
+    /**
+     * A rule with its fields resolved to steps once, for matching it against many
+     * reviews without a field-name lookup per review.
+     */
+    record RuleMatcher(NotificationRule rule, Step trigger, Step missing, String excludeStatus) {
+        static RuleMatcher of(NotificationRule rule) {
+            String exclude = rule.getExcludeStatus() == null || rule.getExcludeStatus().isBlank()
+                    ? null : rule.getExcludeStatus().toLowerCase(Locale.ROOT);
+            return new RuleMatcher(rule, Step.forField(rule.getTriggerField()),
+                    Step.forField(rule.getMissingField()), exclude);
+        }
+
+        boolean matches(Review r, LocalDate today) {
+            LocalDate trigger = this.trigger == null ? null : this.trigger.get(r);
+            if (trigger == null || trigger.isAfter(today.minusDays(rule.getDaysAfter())))
+                return false;
+            if (missing != null && missing.get(r) != null)
+                return false;
+            return excludeStatus == null || !excludeStatus.equals(r.getStatus());
+        }
+    }
+
+    private static String idFor(NotificationRule rule, Review r) {
+        return "notif-" + rule.getId() + "-" + r.getId();
+    }
+
+    static NotificationItem toItem(Notification n, LocalDate today) {
+        return NotificationItem.builder()
+                .id(n.getId())
+                .reviewId(n.getReviewId())
+                .orderId(n.getOrderId())
+                .type(n.getType())
+                .title(n.getTitle())
+                .message(n.getMessage())
+                .actionUrl(n.getActionUrl())
+                .days(n.getTriggerDate() == null ? 0 : ChronoUnit.DAYS.between(n.getTriggerDate(), today))
+                .read(n.isRead())
+                .build();
+    }
+
+    private static int typeRank(String type) {
+        if ("URGENT".equals(type))
+            return 0;
+        if ("WARNING".equals(type))
+            return 1;
+        if ("INFO".equals(type))
+            return 2;
+        return 3;
+    }
+
+    private static LocalDate getDate(Review r, String field) {
+        Step step = Step.forField(field);
+        return step == null ? null : step.get(r);
+    }
+}
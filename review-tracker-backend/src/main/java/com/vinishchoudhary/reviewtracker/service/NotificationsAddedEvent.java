@@ -0,0 +1,9 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Notification;
+
+import java.util.List;
+
+/** Published by {@link NotificationService} when re-evaluation created new notifications. */
+public record NotificationsAddedEvent(List<Notification> added) {
+}
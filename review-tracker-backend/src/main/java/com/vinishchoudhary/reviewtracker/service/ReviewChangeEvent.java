@@ -0,0 +1,23 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+
+import java.util.List;
+
+/**
+ * Published by {@link ReviewService} after a write has been persisted.
+ * Each entry carries the review as it was before the write (null on create)
+ * and as it is after (null on delete).
+ */
+public record ReviewChangeEvent(String action, List<Entry> entries) {
+
+    public record Entry(Review before, Review after) {
+        public String id() {
+            return after != null ? after.getId() : before.getId();
+        }
+    }
+
+    public static ReviewChangeEvent of(String action, Review before, Review after) {
+        return new ReviewChangeEvent(action, List.of(new Entry(before, after)));
+    }
+}
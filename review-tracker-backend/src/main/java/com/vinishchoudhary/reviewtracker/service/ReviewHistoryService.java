@@ -3,15 +3,22 @@ package com.vinishchoudhary.reviewtracker.service;
 import com.vinishchoudhary.reviewtracker.domain.model.ReviewHistory;
 import com.vinishchoudhary.reviewtracker.repository.ReviewHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
 
+/**
+ * Review history log. By default entries are written before the mutation returns;
+ * with {@code app.history.mode=async} they are handed to {@link AsyncHistoryWriter}.
+ */
 @Service
 @RequiredArgsConstructor
 public class ReviewHistoryService {
     private final ReviewHistoryRepository historyRepo;
+    private final ObjectProvider<AsyncHistoryWriter> asyncWriter;
+    private final ChangeVersions changeVersions;
 
     public void logChange(String reviewId, String type, String note, List<ReviewHistory.Change> changes) {
         ReviewHistory h = ReviewHistory.builder()
@@ -21,7 +28,26 @@ public class ReviewHistoryService {
                 .note(note)
                 .changes(changes)
                 .build();
-        historyRepo.save(h);
+        AsyncHistoryWriter writer = asyncWriter.getIfAvailable();
+        if (writer != null)
+            writer.enqueue(List.of(h));
+        else {
+            historyRepo.save(h);
+            changeVersions.bump(ChangeVersions.REVIEW_HISTORY);
+        }
+    }
+
+    /** Writes a batch of entries with a single insertMany. */
+    public void logAll(List<ReviewHistory> entries) {
+        if (entries.isEmpty())
+            return;
+        AsyncHistoryWriter writer = asyncWriter.getIfAvailable();
+        if (writer != null)
+            writer.enqueue(entries);
+        else {
+            historyRepo.insert(entries);
+            changeVersions.bump(ChangeVersions.REVIEW_HISTORY);
+        }
     }
 
     public List<ReviewHistory> getHistory(String reviewId) {
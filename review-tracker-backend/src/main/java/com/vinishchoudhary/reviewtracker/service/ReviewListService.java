@@ -0,0 +1,137 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.api.dto.ReviewListItemDto;
+import com.vinishchoudhary.reviewtracker.api.error.NotFoundException;
+import com.vinishchoudhary.reviewtracker.domain.model.Mediator;
+import com.vinishchoudhary.reviewtracker.domain.model.Platform;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.domain.model.ViewPreset;
+import com.vinishchoudhary.reviewtracker.repository.ReviewRepository;
+import com.vinishchoudhary.reviewtracker.repository.ReviewSearchCriteria;
+import com.vinishchoudhary.reviewtracker.repository.ViewPresetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Review table pages as {@link ReviewListItemDto}s. Mongo returns only the fields
+ * behind the requested columns, and platform and mediator names come from the
+ * lookup cache instead of separate lookup calls from the UI.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewListService {
+    // Table column key -> stored review fields it needs
+    static final Map<String, List<String>> COLUMNS = new LinkedHashMap<>();
+    static {
+        // No stored image yet; the table renders a placeholder, so it needs no fields
+        COLUMNS.put("image", List.of());
+        COLUMNS.put("orderId", List.of("orderId"));
+        COLUMNS.put("orderLink", List.of("orderLink"));
+        COLUMNS.put("productName", List.of("productName"));
+        COLUMNS.put("platformName", List.of("platformId"));
+        COLUMNS.put("status", List.of("status"));
+        COLUMNS.put("dealType", List.of("dealType"));
+        COLUMNS.put("mediatorName", List.of("mediatorId"));
+        COLUMNS.put("amountRupees", List.of("amountRupees"));
+        COLUMNS.put("lessRupees", List.of("lessRupees"));
+        // Older reviews without a stored refund show amount - less
+        COLUMNS.put("refundAmountRupees", List.of("refundAmountRupees", "amountRupees", "lessRupees"));
+        COLUMNS.put("orderedDate", List.of("orderedDate"));
+        COLUMNS.put("deliveryDate", List.of("deliveryDate"));
+        COLUMNS.put("reviewSubmitDate", List.of("reviewSubmitDate"));
+        COLUMNS.put("reviewAcceptedDate", List.of("reviewAcceptedDate"));
+        COLUMNS.put("ratingSubmittedDate", List.of("ratingSubmittedDate"));
+        COLUMNS.put("refundFormSubmittedDate", List.of("refundFormSubmittedDate"));
+        COLUMNS.put("paymentReceivedDate", List.of("paymentReceivedDate"));
+        COLUMNS.put("refundFormUrl", List.of("refundFormUrl"));
+    }
+    // Every row carries these so the table can label it and offer the row actions
+    static final List<String> ROW_FIELDS = List.of("orderId", "status", "dealType");
+    // The table's default column set when neither a view nor columns are given
+    static final List<String> DEFAULT_COLUMNS = List.of("orderId", "productName", "platformName", "status",
+            "dealType", "mediatorName", "amountRupees", "refundAmountRupees", "orderedDate");
+
+    private final ReviewRepository reviewRepo;
+    private final ViewPresetRepository presetRepo;
+    private final LookupService lookupService;
+
+    /**
+     * @param columns table column keys; unknown keys are ignored, and null or empty
+     *                means {@link #DEFAULT_COLUMNS}
+     */
+    public Page<ReviewListItemDto> list(ReviewSearchCriteria criteria, Pageable pageable, List<String> columns) {
+        ReviewService.checkPageSize(pageable.getPageSize());
+        Set<String> cols = new LinkedHashSet<>(columns == null || columns.isEmpty() ? DEFAULT_COLUMNS : columns);
+        cols.retainAll(COLUMNS.keySet());
+        Set<String> fields = new LinkedHashSet<>(ROW_FIELDS);
+        cols.forEach(c -> fields.addAll(COLUMNS.get(c)));
+
+        Page<Review> page = reviewRepo.searchReviews(criteria, pageable, fields);
+        Map<String, Platform> platforms = cols.contains("platformName") ? lookupService.platformsById() : Map.of();
+        Map<String, Mediator> mediators = cols.contains("mediatorName") ? lookupService.mediatorsById() : Map.of();
+        return page.map(r -> toItem(r, platforms, mediators));
+    }
+
+    /**
+     * The visible columns of a saved view in display order, read the way the shared
+     * view page reads the preset config: {@code colOrder} (or {@link #DEFAULT_COLUMNS}
+     * without one), minus keys that {@code visibleCols} sets to false.
+     */
+    public List<String> presetColumns(String viewId) {
+        ViewPreset preset = presetRepo.findById(viewId)
+                .orElseThrow(() -> new NotFoundException("View not found: " + viewId));
+        return visibleColumns(preset.getConfig());
+    }
+
+    static List<String> visibleColumns(Map<String, Object> config) {
+        if (config == null)
+            return DEFAULT_COLUMNS;
+        List<String> keys = new ArrayList<>(DEFAULT_COLUMNS);
+        if (config.get("colOrder") instanceof List<?> order) {
+            keys.clear();
+            order.forEach(k -> keys.add(String.valueOf(k)));
+        }
+        if (config.get("visibleCols") instanceof Map<?, ?> shown)
+            keys.removeIf(k -> Boolean.FALSE.equals(shown.get(k)));
+        return keys;
+    }
+
+    private static ReviewListItemDto toItem(Review r, Map<String, Platform> platforms,
+            Map<String, Mediator> mediators) {
+        Platform p = r.getPlatformId() != null ? platforms.get(r.getPlatformId()) : null;
+        Mediator m = r.getMediatorId() != null ? mediators.get(r.getMediatorId()) : null;
+        return ReviewListItemDto.builder()
+                .id(r.getId())
+                .orderId(r.getOrderId())
+                .orderLink(r.getOrderLink())
+                .productName(r.getProductName())
+                .dealType(r.getDealType())
+                .status(r.getStatus())
+                .platformId(r.getPlatformId())
+                .platformName(p != null ? p.getName() : null)
+                .mediatorId(r.getMediatorId())
+                .mediatorName(m != null ? m.getName() : null)
+                .mediatorPhone(m != null ? m.getPhone() : null)
+                .amountRupees(r.getAmountRupees())
+                .lessRupees(r.getLessRupees())
+                .refundAmountRupees(r.getRefundAmountRupees())
+                .orderedDate(r.getOrderedDate())
+                .deliveryDate(r.getDeliveryDate())
+                .reviewSubmitDate(r.getReviewSubmitDate())
+                .reviewAcceptedDate(r.getReviewAcceptedDate())
+                .ratingSubmittedDate(r.getRatingSubmittedDate())
+                .refundFormSubmittedDate(r.getRefundFormSubmittedDate())
+                .paymentReceivedDate(r.getPaymentReceivedDate())
+                .refundFormUrl(r.getRefundFormUrl())
+                .build();
+    }
+}
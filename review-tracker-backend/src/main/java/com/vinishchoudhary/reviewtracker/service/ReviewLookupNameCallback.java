@@ -0,0 +1,29 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies the platform and mediator names onto a review from its ids on every save,
+ * saveAll and bulk insert, so name sorts run inside Mongo. LookupService is resolved
+ * on first use: it sits on repositories that need the MongoTemplate this callback
+ * is registered with.
+ */
+@Component
+public class ReviewLookupNameCallback implements BeforeConvertCallback<Review> {
+    private final ObjectProvider<LookupService> lookupService;
+
+    public ReviewLookupNameCallback(ObjectProvider<LookupService> lookupService) {
+        this.lookupService = lookupService;
+    }
+
+    @Override
+    public Review onBeforeConvert(Review review, String collection) {
+        LookupService lookups = lookupService.getObject();
+        review.setPlatformName(lookups.platformName(review.getPlatformId()));
+        review.setMediatorName(lookups.mediatorName(review.getMediatorId()));
+        return review;
+    }
+}
@@ -1,13 +1,26 @@
 package com.vinishchoudhary.reviewtracker.service;
 
-import com.vinishchoudhary.reviewtracker.api.dto.DashboardStats;
-
+import com.vinishchoudhary.reviewtracker.api.dto.BulkResult;
+import com.vinishchoudhary.reviewtracker.api.dto.ImportReport;
+import com.vinishchoudhary.reviewtracker.api.error.BadRequestException;
+import com.vinishchoudhary.reviewtracker.api.error.ValidationException;
+import com.vinishchoudhary.reviewtracker.domain.model.DealFlow;
 import com.vinishchoudhary.reviewtracker.domain.model.Review;
 import com.vinishchoudhary.reviewtracker.domain.model.ReviewHistory;
+import com.vinishchoudhary.reviewtracker.domain.model.Step;
+import com.vinishchoudhary.reviewtracker.repository.KeysetSlice;
+import com.vinishchoudhary.reviewtracker.repository.ReviewCursor;
+import com.vinishchoudhary.reviewtracker.repository.ReviewPatch;
+import com.vinishchoudhary.reviewtracker.repository.ReviewQueryResult;
 import com.vinishchoudhary.reviewtracker.repository.ReviewRepository;
 import com.vinishchoudhary.reviewtracker.repository.ReviewSearchCriteria;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,20 +28,25 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.*;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final ReviewRepository reviewRepo;
     private final ReviewHistoryService historyService;
-    private final com.vinishchoudhary.reviewtracker.domain.validation.DateChainValidator dateValidator;
-
-    public List<Review> getAllReviews() {
-        return reviewRepo.findAll();
-    }
+    private final ApplicationEventPublisher events;
+    private final LookupService lookupService;
+    private final ObjectMapper objectMapper;
 
     // ---------- CRUD ----------
     public Review createReview(Review r) {
@@ -39,15 +57,16 @@ public class ReviewService {
         if (r.getRefundAmountRupees() == null && r.getAmountRupees() != null && r.getLessRupees() != null) {
             r.setRefundAmountRupees(r.getAmountRupees().subtract(r.getLessRupees()));
         }
-        dateValidator.validate(r);
-        r.setStatus(computeStatus(r));
+        r.setStatus(DealFlow.of(r).validatedStatus(r));
         Review saved = reviewRepo.save(r);
         historyService.logChange(saved.getId(), "CREATE", "Created review", null);
+        events.publishEvent(ReviewChangeEvent.of("CREATE", null, saved));
         return saved;
     }
 
     public Review updateReview(@NonNull String id, Review updated) {
         Review existing = reviewRepo.findById(id).orElseThrow();
+        Review before = existing.toBuilder().build();
         List<ReviewHistory.Change> changes = new ArrayList<>();
 
         // ensure optimistic locking by applying client version
@@ -83,110 +102,81 @@ public class ReviewService {
         existing.setRefundFormSubmittedDate(updated.getRefundFormSubmittedDate());
         existing.setPaymentReceivedDate(updated.getPaymentReceivedDate());
         existing.setRefundFormUrl(updated.getRefundFormUrl());
-        dateValidator.validate(existing);
-        existing.setStatus(computeStatus(existing));
+        existing.setStatus(DealFlow.of(existing).validatedStatus(existing));
 
         Review saved = reviewRepo.save(existing);
         historyService.logChange(saved.getId(), "UPDATE", "Updated review", changes);
+        events.publishEvent(ReviewChangeEvent.of("UPDATE", before, saved));
         return saved;
     }
 
     public void deleteReview(@NonNull String id) {
+        Optional<Review> existing = reviewRepo.findById(id);
         reviewRepo.deleteById(id);
         historyService.logChange(id, "DELETE", "Deleted review", null);
+        existing.ifPresent(r -> events.publishEvent(ReviewChangeEvent.of("DELETE", r, null)));
     }
 
+    /**
+     * Page and count as two reads (run side by side under virtual threads): the count
+     * can be answered from an index alone and a sorted page stops after its limit,
+     * which a $facet over every match cannot do. Use {@link #query} when totals are needed.
+     */
     public Page<Review> searchReviews(ReviewSearchCriteria criteria, Pageable pageable) {
+        if (pageable.isPaged())
+            checkPageSize(pageable.getPageSize());
         return reviewRepo.searchReviews(criteria, pageable);
     }
 
-    public Map<String, Object> aggregates(ReviewSearchCriteria criteria) {
-        return reviewRepo.aggregatedTotals(criteria);
+    /** Page, count and optionally totals in one aggregation; the table's single round-trip. */
+    public ReviewQueryResult query(ReviewSearchCriteria criteria, Pageable pageable, boolean withTotals) {
+        if (pageable.isPaged())
+            checkPageSize(pageable.getPageSize());
+        return reviewRepo.queryReviews(criteria, pageable, withTotals);
     }
 
-    // ---------- Metrics (MVP) ----------
-    public long overdueCount() {
-        java.time.LocalDate threshold = java.time.LocalDate.now().minusDays(7);
-        return reviewRepo.countByDeliveryDateBeforeAndPaymentReceivedDateIsNull(threshold);
+    /** Paged reads are capped; a full listing streams through {@link #writeJsonArray}. */
+    public static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
     }
 
-    public DashboardStats getDashboardStats() {
-        LocalDate today = LocalDate.now();
-        List<Review> all = reviewRepo.findAll();
-
-        long pendingReview = 0;
-        long pendingRefund = 0;
-        long pendingPayment = 0;
-        long overdue = 0;
-        BigDecimal totalSpent = BigDecimal.ZERO;
-        BigDecimal totalRefunded = BigDecimal.ZERO;
-        BigDecimal pendingRefundAmount = BigDecimal.ZERO;
-
-        List<DashboardStats.ActionItem> actions = new ArrayList<>();
-
-        for (Review r : all) {
-            String status = r.getStatus();
-
-            // Counts
-            if ("ordered".equals(status) || "delivered".equals(status))
-                pendingReview++;
-            else if ("review submitted".equals(status) || "review accepted".equals(status)
-                    || "rating submitted".equals(status)) {
-                if (r.getRefundFormSubmittedDate() == null)
-                    pendingRefund++;
-            }
-            if ("refund form submitted".equals(status))
-                pendingPayment++;
-
-            // Overdue (delivered > 7 days ago and no payment)
-            if (r.getDeliveryDate() != null && r.getPaymentReceivedDate() == null) {
-                if (ChronoUnit.DAYS.between(r.getDeliveryDate(), today) > 7)
-                    overdue++;
+    /**
+     * Keyset-paged search. {@code after} is the opaque token returned as {@code next}
+     * by the previous page and must have been issued for the same sort and direction.
+     */
+    public KeysetSlice<Review> scrollReviews(ReviewSearchCriteria criteria, String sort, Sort.Direction dir,
+            String after, int size) {
+        checkPageSize(size);
+        ReviewCursor cursor = null;
+        if (after != null && !after.isBlank()) {
+            try {
+                cursor = ReviewCursor.decode(after);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(e.getMessage());
             }
+            if (!cursor.sort().equals(sort) || !cursor.dir().equals(dir.name()))
+                throw new BadRequestException("Cursor was issued for a different sort order");
+        }
+        try {
+            return reviewRepo.scrollReviews(criteria, sort, dir, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
 
-            // Financials
-            if (r.getAmountRupees() != null)
-                totalSpent = totalSpent.add(r.getAmountRupees());
-            if (r.getRefundAmountRupees() != null && r.getPaymentReceivedDate() != null) {
-                totalRefunded = totalRefunded.add(r.getRefundAmountRupees());
-            }
-            if (r.getRefundAmountRupees() != null && r.getPaymentReceivedDate() == null) {
-                pendingRefundAmount = pendingRefundAmount.add(r.getRefundAmountRupees());
-            }
+    public long countReviews(ReviewSearchCriteria criteria) {
+        return reviewRepo.countReviews(criteria);
+    }
 
-            // Action Items (Simple heuristics for now, can be aligned with
-            // NotificationRules later)
-            if (r.getDeliveryDate() != null && r.getReviewSubmitDate() == null) {
-                long days = ChronoUnit.DAYS.between(r.getDeliveryDate(), today);
-                if (days > 3) {
-                    actions.add(DashboardStats.ActionItem.builder()
-                            .id(r.getId())
-                            .type(days > 7 ? "URGENT" : "WARNING")
-                            .message("Submit review for " + r.getProductName() + " (Delivered " + days + " days ago)")
-                            .link("/reviews/edit/" + r.getId())
-                            .build());
-                }
-            }
-        }
+    public Map<String, Object> aggregates(ReviewSearchCriteria criteria) {
+        return query(criteria, Pageable.unpaged(), true).totals();
+    }
 
-        // Sort actions by urgency/freshness?
-        // limiting to 5 for now
-        if (actions.size() > 5)
-            actions = actions.subList(0, 5);
-
-        return DashboardStats.builder()
-                .totalReviews(all.size())
-                .pendingReviewRating(pendingReview)
-                .pendingRefundForm(pendingRefund)
-                .pendingPayment(pendingPayment)
-                .overdue(overdue)
-                .totalSpent(totalSpent)
-                .totalRefunded(totalRefunded)
-                .netCost(totalSpent.subtract(totalRefunded)) // this is gross net, actual net cost is totalSpent -
-                                                             // totalExpectedRefund
-                .pendingRefundAmount(pendingRefundAmount)
-                .actionItems(actions)
-                .build();
+    // ---------- Metrics (MVP) ----------
+    public long overdueCount() {
+        java.time.LocalDate threshold = java.time.LocalDate.now().minusDays(7);
+        return reviewRepo.countUnpaidDeliveredBefore(threshold);
     }
 
     // ---------- Advance ----------
@@ -194,111 +184,30 @@ public class ReviewService {
         Review r = reviewRepo.findById(id).orElseThrow();
         LocalDate when = date != null ? date : LocalDate.now();
 
-        String nextField = nextFieldFor(r);
-        if (nextField == null) {
+        // Set next field and clear subsequent ones in the flow for consistency
+        Review before = r.toBuilder().build();
+        Step next = DealFlow.of(r).advance(r, when);
+        if (next == null) {
             return r; // nothing to do
         }
-
-        // Set next field and clear subsequent ones in the flow for consistency
-        setField(r, nextField, when);
-        clearAfter(r, nextField);
-
-        r.setStatus(computeStatus(r));
+        String nextField = next.field();
         Review saved = reviewRepo.save(r);
         historyService.logChange(saved.getId(), "ADVANCE", "Set " + nextField + " to " + when,
                 List.of(new ReviewHistory.Change(nextField, null, when.toString())));
+        events.publishEvent(ReviewChangeEvent.of("ADVANCE", before, saved));
         return saved;
     }
 
-    public List<Review> bulkAdvanceNext(@NonNull List<String> ids, LocalDate date) {
-        List<Review> out = new ArrayList<>();
-        for (String id : ids) {
-            out.add(advanceNext(id, date));
-        }
-        return out;
-    }
-
-    private static void setField(Review r, String field, LocalDate value) {
-        switch (field) {
-            case "orderedDate":
-                r.setOrderedDate(value);
-                break;
-            case "deliveryDate":
-                r.setDeliveryDate(value);
-                break;
-            case "reviewSubmitDate":
-                r.setReviewSubmitDate(value);
-                break;
-            case "reviewAcceptedDate":
-                r.setReviewAcceptedDate(value);
-                break;
-            case "ratingSubmittedDate":
-                r.setRatingSubmittedDate(value);
-                break;
-            case "refundFormSubmittedDate":
-                r.setRefundFormSubmittedDate(value);
-                break;
-            case "paymentReceivedDate":
-                r.setPaymentReceivedDate(value);
-                break;
-            default: /* ignore */
-        }
-    }
-
-    private static void clearAfter(Review r, String fieldInclusive) {
-        List<String> seq = sequenceFor(r.getDealType());
-        int idx = seq.indexOf(fieldInclusive);
-        if (idx < 0)
-            return;
-        for (int i = idx + 1; i < seq.size(); i++) {
-            String f = seq.get(i);
-            setField(r, f, null);
-        }
-    }
-
-    private static String nextFieldFor(Review r) {
-        for (String f : sequenceFor(r.getDealType())) {
-            LocalDate v = getField(r, f);
-            if (v == null)
-                return f;
-        }
-        return null;
-    }
-
-    private static List<String> sequenceFor(String dealType) {
-        String dt = dealType == null ? "REVIEW_SUBMISSION" : dealType;
-        switch (dt) {
-            case "REVIEW_PUBLISHED":
-                return List.of("orderedDate", "deliveryDate", "reviewSubmitDate", "reviewAcceptedDate",
-                        "refundFormSubmittedDate", "paymentReceivedDate");
-            case "RATING_ONLY":
-                return List.of("orderedDate", "deliveryDate", "ratingSubmittedDate", "refundFormSubmittedDate",
-                        "paymentReceivedDate");
-            default:
-                return List.of("orderedDate", "deliveryDate", "reviewSubmitDate", "refundFormSubmittedDate",
-                        "paymentReceivedDate");
-        }
-    }
-
-    private static LocalDate getField(Review r, String field) {
-        switch (field) {
-            case "orderedDate":
-                return r.getOrderedDate();
-            case "deliveryDate":
-                return r.getDeliveryDate();
-            case "reviewSubmitDate":
-                return r.getReviewSubmitDate();
-            case "reviewAcceptedDate":
-                return r.getReviewAcceptedDate();
-            case "ratingSubmittedDate":
-                return r.getRatingSubmittedDate();
-            case "refundFormSubmittedDate":
-                return r.getRefundFormSubmittedDate();
-            case "paymentReceivedDate":
-                return r.getPaymentReceivedDate();
-            default:
-                return null;
-        }
+    /**
+     * Advances every review to its next step with one read and one bulk write;
+     * see {@link #bulkApply}.
+     */
+    public BulkResult bulkAdvanceNext(@NonNull List<String> ids, LocalDate date) {
+        LocalDate when = date != null ? date : LocalDate.now();
+        return bulkApply(ids, "ADVANCE", r -> {
+            Step next = DealFlow.of(r).advance(r, when);
+            return next == null ? null : "Set " + next.field() + " to " + when;
+        });
     }
 
     public Optional<Review> getReview(@NonNull String id) {
@@ -327,9 +236,10 @@ public class ReviewService {
                 .paymentReceivedDate(source.getPaymentReceivedDate())
                 .refundFormUrl(source.getRefundFormUrl())
                 .build();
-        copy.setStatus(computeStatus(copy));
+        copy.setStatus(DealFlow.statusOf(copy));
         Review saved = reviewRepo.save(copy);
         historyService.logChange(saved.getId(), "CLONE", "Cloned from " + sourceId, null);
+        events.publishEvent(ReviewChangeEvent.of("CLONE", null, saved));
         return saved;
     }
 
@@ -337,6 +247,7 @@ public class ReviewService {
     public Review copyFields(@NonNull String sourceId, @NonNull String targetId, List<String> fields) {
         Review src = reviewRepo.findById(sourceId).orElseThrow();
         Review tgt = reviewRepo.findById(targetId).orElseThrow();
+        Review before = tgt.toBuilder().build();
         List<ReviewHistory.Change> changes = new ArrayList<>();
 
         for (String f : fields) {
@@ -376,16 +287,34 @@ public class ReviewService {
             changes.add(new ReviewHistory.Change(f, null, "copied from " + sourceId));
         }
 
-        tgt.setStatus(computeStatus(tgt));
+        tgt.setStatus(DealFlow.statusOf(tgt));
         Review saved = reviewRepo.save(tgt);
         historyService.logChange(saved.getId(), "COPY", "Copied fields from " + sourceId, changes);
+        events.publishEvent(ReviewChangeEvent.of("COPY", before, saved));
         return saved;
     }
 
     // ---------- Bulk Ops ----------
-    public List<Review> bulkUpdate(@NonNull List<String> ids, Map<String, Object> updates) {
-        List<Review> reviews = reviewRepo.findAllById(ids);
-        for (Review r : reviews) {
+    // Fields a bulk advance or update may touch; only the ones that differ are written.
+    private static final Map<String, Function<Review, Object>> BULK_FIELDS = new LinkedHashMap<>();
+    static {
+        BULK_FIELDS.put("platformId", Review::getPlatformId);
+        BULK_FIELDS.put("mediatorId", Review::getMediatorId);
+        BULK_FIELDS.put("orderLink", Review::getOrderLink);
+        BULK_FIELDS.put("dealType", Review::getDealType);
+        BULK_FIELDS.put("orderedDate", Review::getOrderedDate);
+        BULK_FIELDS.put("deliveryDate", Review::getDeliveryDate);
+        BULK_FIELDS.put("reviewSubmitDate", Review::getReviewSubmitDate);
+        BULK_FIELDS.put("reviewAcceptedDate", Review::getReviewAcceptedDate);
+        BULK_FIELDS.put("ratingSubmittedDate", Review::getRatingSubmittedDate);
+        BULK_FIELDS.put("refundFormSubmittedDate", Review::getRefundFormSubmittedDate);
+        BULK_FIELDS.put("paymentReceivedDate", Review::getPaymentReceivedDate);
+        BULK_FIELDS.put("refundFormUrl", Review::getRefundFormUrl);
+        BULK_FIELDS.put("status", Review::getStatus);
+    }
+
+    public BulkResult bulkUpdate(@NonNull List<String> ids, Map<String, Object> updates) {
+        return bulkApply(ids, "BULK_UPDATE", r -> {
             if (updates.containsKey("platformId"))
                 r.setPlatformId((String) updates.get("platformId"));
             if (updates.containsKey("mediatorId"))
@@ -410,59 +339,213 @@ public class ReviewService {
                 r.setPaymentReceivedDate(LocalDate.parse((String) updates.get("paymentReceivedDate")));
             if (updates.containsKey("refundFormUrl"))
                 r.setRefundFormUrl((String) updates.get("refundFormUrl"));
-            dateValidator.validate(r);
-            r.setStatus(computeStatus(r));
+            r.setStatus(DealFlow.of(r).validatedStatus(r));
+            return "Bulk update";
+        });
+    }
+
+    /**
+     * Bulk write engine: one findAllById, {@code change} applied in memory, one
+     * unordered bulk write of version-guarded $set patches and one history insertMany.
+     * {@code change} mutates the review and returns the history note, or null when
+     * there is nothing to do for it.
+     */
+    private BulkResult bulkApply(List<String> ids, String type, Function<Review, String> change) {
+        Set<String> requested = new LinkedHashSet<>(ids);
+        Map<String, Review> found = new HashMap<>();
+        for (Review r : reviewRepo.findAllById(requested))
+            found.put(r.getId(), r);
+
+        Instant stamp = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Map<String, String[]> outcome = new HashMap<>(); // id -> {status, message}
+        List<ReviewPatch> patches = new ArrayList<>();
+        Map<String, ReviewHistory> history = new HashMap<>();
+        Map<String, ReviewChangeEvent.Entry> entries = new HashMap<>();
+        for (String id : requested) {
+            Review r = found.get(id);
+            if (r == null) {
+                outcome.put(id, new String[] { BulkResult.NOT_FOUND, null });
+                continue;
+            }
+            Review before = r.toBuilder().build();
+            String note;
+            try {
+                note = change.apply(r);
+            } catch (ValidationException | DateTimeParseException | ClassCastException e) {
+                outcome.put(id, new String[] { BulkResult.INVALID, e.getMessage() });
+                continue;
+            }
+            Map<String, Object> fields = new LinkedHashMap<>();
+            List<ReviewHistory.Change> changes = new ArrayList<>();
+            BULK_FIELDS.forEach((field, getter) -> {
+                Object oldVal = getter.apply(before);
+                Object newVal = getter.apply(r);
+                if (!Objects.equals(oldVal, newVal)) {
+                    fields.put(field, newVal);
+                    changes.add(new ReviewHistory.Change(field, oldVal, newVal));
+                }
+            });
+            if (note == null || fields.isEmpty()) {
+                outcome.put(id, new String[] { BulkResult.UNCHANGED, null });
+                continue;
+            }
+            // Names follow their ids; derived, so kept out of the history
+            if (fields.containsKey("platformId")) {
+                r.setPlatformName(lookupService.platformName(r.getPlatformId()));
+                fields.put("platformName", r.getPlatformName());
+            }
+            if (fields.containsKey("mediatorId")) {
+                r.setMediatorName(lookupService.mediatorName(r.getMediatorId()));
+                fields.put("mediatorName", r.getMediatorName());
+            }
+            patches.add(new ReviewPatch(id, before.getVersion(), fields));
+            history.put(id, ReviewHistory.builder()
+                    .reviewId(id).type(type).at(stamp).note(note).changes(changes).build());
+            r.setVersion(before.getVersion() == null ? 1L : before.getVersion() + 1);
+            r.setUpdatedAt(stamp);
+            entries.put(id, new ReviewChangeEvent.Entry(before, r));
         }
-        return reviewRepo.saveAll(reviews);
+
+        Set<String> applied = reviewRepo.applyPatches(patches, stamp);
+        for (ReviewPatch p : patches) {
+            outcome.put(p.id(), applied.contains(p.id())
+                    ? new String[] { BulkResult.OK, null }
+                    : new String[] { BulkResult.CONFLICT, "The review was modified by someone else" });
+        }
+        historyService.logAll(applied.stream().map(history::get).toList());
+        if (!applied.isEmpty())
+            events.publishEvent(new ReviewChangeEvent(type, applied.stream().map(entries::get).toList()));
+
+        BulkResult result = new BulkResult();
+        for (String id : requested)
+            result.add(id, outcome.get(id)[0], outcome.get(id)[1]);
+        return result;
     }
 
-    public void bulkDelete(@NonNull List<String> ids) {
-        reviewRepo.deleteAllById(ids);
-        ids.forEach(id -> historyService.logChange(id, "DELETE", "Bulk delete", null));
+    /** Deletes with one read and version-guarded deletes; reviews changed since the read are reported as conflicts. */
+    public BulkResult bulkDelete(@NonNull List<String> ids) {
+        Set<String> requested = new LinkedHashSet<>(ids);
+        Map<String, Review> found = new HashMap<>();
+        Map<String, Long> versions = new HashMap<>();
+        for (Review r : reviewRepo.findAllById(requested)) {
+            found.put(r.getId(), r);
+            versions.put(r.getId(), r.getVersion());
+        }
+        Set<String> deleted = reviewRepo.deleteVersioned(versions);
+
+        Instant now = Instant.now();
+        historyService.logAll(deleted.stream()
+                .map(id -> ReviewHistory.builder().reviewId(id).type("DELETE").at(now).note("Bulk delete").build())
+                .toList());
+        if (!deleted.isEmpty())
+            events.publishEvent(new ReviewChangeEvent("DELETE", deleted.stream()
+                    .map(id -> new ReviewChangeEvent.Entry(found.get(id), null))
+                    .toList()));
+
+        BulkResult result = new BulkResult();
+        for (String id : requested) {
+            if (deleted.contains(id))
+                result.add(id, BulkResult.OK, null);
+            else if (found.containsKey(id))
+                result.add(id, BulkResult.CONFLICT, "The review was modified by someone else");
+            else
+                result.add(id, BulkResult.NOT_FOUND, null);
+        }
+        return result;
     }
 
     // ---------- CSV Export ----------
-    public String exportCsv() {
-        List<Review> reviews = reviewRepo.findAll();
-        String[] header = {
-                "orderId", "orderLink", "productName", "dealType", "platformId", "mediatorId",
-                "amountRupees", "lessRupees", "refundAmountRupees",
-                "orderedDate", "deliveryDate", "reviewSubmitDate", "reviewAcceptedDate", "ratingSubmittedDate",
-                "refundFormSubmittedDate", "paymentReceivedDate",
-                "refundFormUrl",
-                "status"
-        };
-        StringBuilder sb = new StringBuilder(String.join(",", header)).append("\n");
-        for (Review r : reviews) {
-            List<String> row = new ArrayList<>();
-            row.add(nullToEmpty(r.getOrderId()));
-            row.add(nullToEmpty(r.getOrderLink()));
-            row.add(nullToEmpty(r.getProductName()));
-            row.add(nullToEmpty(r.getDealType()));
-            row.add(nullToEmpty(r.getPlatformId()));
-            row.add(nullToEmpty(r.getMediatorId()));
-            row.add(r.getAmountRupees() == null ? "" : r.getAmountRupees().toPlainString());
-            row.add(r.getLessRupees() == null ? "" : r.getLessRupees().toPlainString());
-            row.add(r.getRefundAmountRupees() == null ? "" : r.getRefundAmountRupees().toPlainString());
-            row.add(r.getOrderedDate() == null ? "" : r.getOrderedDate().toString());
-            row.add(r.getDeliveryDate() == null ? "" : r.getDeliveryDate().toString());
-            row.add(r.getReviewSubmitDate() == null ? "" : r.getReviewSubmitDate().toString());
-            row.add(r.getReviewAcceptedDate() == null ? "" : r.getReviewAcceptedDate().toString());
-            row.add(r.getRatingSubmittedDate() == null ? "" : r.getRatingSubmittedDate().toString());
-            row.add(r.getRefundFormSubmittedDate() == null ? "" : r.getRefundFormSubmittedDate().toString());
-            row.add(r.getPaymentReceivedDate() == null ? "" : r.getPaymentReceivedDate().toString());
-            row.add(nullToEmpty(r.getRefundFormUrl()));
-            row.add(nullToEmpty(r.getStatus()));
-            sb.append(toCsvRow(row)).append("\n");
+    static final String[] CSV_HEADER = {
+            "orderId", "orderLink", "productName", "dealType", "platformId", "mediatorId",
+            "amountRupees", "lessRupees", "refundAmountRupees",
+            "orderedDate", "deliveryDate", "reviewSubmitDate", "reviewAcceptedDate", "ratingSubmittedDate",
+            "refundFormSubmittedDate", "paymentReceivedDate",
+            "refundFormUrl",
+            "status",
+            "platformName", "mediatorName"
+    };
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    /**
+     * Streams matching reviews as CSV straight from a Mongo cursor, so memory use
+     * does not depend on how many rows are exported.
+     */
+    public void exportCsv(ReviewSearchCriteria criteria, OutputStream out) throws IOException {
+        exportCsv(criteria, out, rows -> {
+        });
+    }
+
+    /** As {@link #exportCsv(ReviewSearchCriteria, OutputStream)}, reporting the running row count every batch. */
+    public void exportCsv(ReviewSearchCriteria criteria, OutputStream out, LongConsumer onProgress)
+            throws IOException {
+        Map<String, String> platformNames = lookupService.platformNames();
+        Map<String, String> mediatorNames = lookupService.mediatorNames();
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        w.write(String.join(",", CSV_HEADER));
+        w.write('\n');
+        try (java.util.stream.Stream<Review> reviews = reviewRepo.streamReviews(criteria, EXPORT_BATCH_SIZE)) {
+            Iterator<Review> it = reviews.iterator();
+            long rows = 0;
+            while (it.hasNext()) {
+                w.write(toCsvRow(toCsvFields(it.next(), platformNames, mediatorNames)));
+                w.write('\n');
+                if (++rows % EXPORT_BATCH_SIZE == 0)
+                    onProgress.accept(rows);
+            }
+            onProgress.accept(rows);
+        }
+        w.flush();
+    }
+
+    /**
+     * Writes matching reviews as one JSON array straight from a Mongo cursor, so
+     * memory use stays at one cursor batch however many reviews match.
+     */
+    public void writeJsonArray(ReviewSearchCriteria criteria, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(Review.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+                java.util.stream.Stream<Review> reviews = reviewRepo.streamReviews(criteria, EXPORT_BATCH_SIZE)) {
+            gen.writeStartArray();
+            Iterator<Review> it = reviews.iterator();
+            while (it.hasNext())
+                writer.writeValue(gen, it.next());
+            gen.writeEndArray();
         }
-        return sb.toString();
+    }
+
+    // Names are export-only columns; import reads the ids and ignores them
+    static List<String> toCsvFields(Review r, Map<String, String> platformNames,
+            Map<String, String> mediatorNames) {
+        List<String> row = new ArrayList<>(CSV_HEADER.length);
+        row.add(nullToEmpty(r.getOrderId()));
+        row.add(nullToEmpty(r.getOrderLink()));
+        row.add(nullToEmpty(r.getProductName()));
+        row.add(nullToEmpty(r.getDealType()));
+        row.add(nullToEmpty(r.getPlatformId()));
+        row.add(nullToEmpty(r.getMediatorId()));
+        row.add(r.getAmountRupees() == null ? "" : r.getAmountRupees().toPlainString());
+        row.add(r.getLessRupees() == null ? "" : r.getLessRupees().toPlainString());
+        row.add(r.getRefundAmountRupees() == null ? "" : r.getRefundAmountRupees().toPlainString());
+        row.add(r.getOrderedDate() == null ? "" : r.getOrderedDate().toString());
+        row.add(r.getDeliveryDate() == null ? "" : r.getDeliveryDate().toString());
+        row.add(r.getReviewSubmitDate() == null ? "" : r.getReviewSubmitDate().toString());
+        row.add(r.getReviewAcceptedDate() == null ? "" : r.getReviewAcceptedDate().toString());
+        row.add(r.getRatingSubmittedDate() == null ? "" : r.getRatingSubmittedDate().toString());
+        row.add(r.getRefundFormSubmittedDate() == null ? "" : r.getRefundFormSubmittedDate().toString());
+        row.add(r.getPaymentReceivedDate() == null ? "" : r.getPaymentReceivedDate().toString());
+        row.add(nullToEmpty(r.getRefundFormUrl()));
+        row.add(nullToEmpty(r.getStatus()));
+        row.add(nullToEmpty(r.getPlatformId() == null ? null : platformNames.get(r.getPlatformId())));
+        row.add(nullToEmpty(r.getMediatorId() == null ? null : mediatorNames.get(r.getMediatorId())));
+        return row;
     }
 
     private static String nullToEmpty(String s) {
         return s == null ? "" : s;
     }
 
-    private static String toCsvRow(List<String> fields) {
+    static String toCsvRow(List<String> fields) {
         StringBuilder b = new StringBuilder();
         for (int i = 0; i < fields.size(); i++) {
             if (i > 0)
@@ -481,75 +564,154 @@ public class ReviewService {
     }
 
     // ---------- CSV Import ----------
-    public List<Review> importCsv(MultipartFile file) throws IOException {
-        List<Review> reviews = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-            String headerLine = br.readLine();
-            if (headerLine == null)
-                return List.of();
-            List<String> header = parseCsvLine(headerLine);
-            Map<String, Integer> idx = new HashMap<>();
-            for (int i = 0; i < header.size(); i++)
-                idx.put(header.get(i).trim(), i);
-
-            String[] required = { "orderId", "orderLink", "productName", "dealType", "platformId", "mediatorId",
-                    "amountRupees", "lessRupees" };
-            for (String req : required)
-                if (!idx.containsKey(req))
-                    throw new com.vinishchoudhary.reviewtracker.api.error.ValidationException(
-                            "Missing required column: " + req);
-
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.isBlank())
-                    continue;
-                List<String> parts = parseCsvLine(line);
-                java.util.function.Function<String, String> get = (k) -> {
-                    Integer i = idx.get(k);
-                    return (i == null || i >= parts.size()) ? null : parts.get(i);
-                };
-                String orderId = get.apply("orderId");
-                if (orderId == null || orderId.isBlank())
-                    throw new com.vinishchoudhary.reviewtracker.api.error.ValidationException(
-                            "orderId is required in CSV");
-                if (reviewRepo.existsByOrderId(orderId))
-                    throw new com.vinishchoudhary.reviewtracker.api.error.ValidationException(
-                            "Duplicate orderId in CSV or DB: " + orderId);
-
-                Review r = Review.builder()
-                        .orderId(orderId)
-                        .orderLink(get.apply("orderLink"))
-                        .productName(get.apply("productName"))
-                        .dealType(get.apply("dealType"))
-                        .platformId(get.apply("platformId"))
-                        .mediatorId(get.apply("mediatorId"))
-                        .amountRupees(parseBig(get.apply("amountRupees")))
-                        .lessRupees(parseBig(get.apply("lessRupees")))
-                        .refundAmountRupees(parseBig(get.apply("refundAmountRupees")))
-                        .orderedDate(parseDate(get.apply("orderedDate")))
-                        .deliveryDate(parseDate(get.apply("deliveryDate")))
-                        .reviewSubmitDate(parseDate(get.apply("reviewSubmitDate")))
-                        .reviewAcceptedDate(parseDate(get.apply("reviewAcceptedDate")))
-                        .ratingSubmittedDate(parseDate(get.apply("ratingSubmittedDate")))
-                        .refundFormSubmittedDate(parseDate(get.apply("refundFormSubmittedDate")))
-                        .paymentReceivedDate(parseDate(get.apply("paymentReceivedDate")))
-                        .refundFormUrl(get.apply("refundFormUrl"))
-                        .build();
-
-                // Compute refund if not provided
-                if (r.getRefundAmountRupees() == null && r.getAmountRupees() != null && r.getLessRupees() != null) {
-                    r.setRefundAmountRupees(r.getAmountRupees().subtract(r.getLessRupees()));
-                }
-                // Compute status
-                r.setStatus(computeStatus(r));
-                reviews.add(r);
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final String[] IMPORT_REQUIRED_COLUMNS = { "orderId", "orderLink", "productName", "dealType",
+            "platformId", "mediatorId", "amountRupees", "lessRupees" };
+
+    public ImportReport importCsv(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return importCsv(in);
+        }
+    }
+
+    /**
+     * Streams the CSV in chunks: one $in lookup for existing order IDs and one
+     * unordered bulk insert per chunk, with IMPORT history written in bulk.
+     * Bad rows are reported in the returned report; only a malformed header aborts.
+     */
+    public ImportReport importCsv(InputStream in) throws IOException {
+        return importCsv(in, r -> {
+        });
+    }
+
+    /** As {@link #importCsv(InputStream)}, handing the running report to {@code onChunk} after every chunk. */
+    public ImportReport importCsv(InputStream in, Consumer<ImportReport> onChunk) throws IOException {
+        ImportReport report = new ImportReport();
+        BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String headerLine = br.readLine();
+        if (headerLine == null)
+            return report;
+        List<String> header = parseCsvLine(headerLine);
+        Map<String, Integer> idx = new HashMap<>();
+        for (int i = 0; i < header.size(); i++)
+            idx.put(header.get(i).trim(), i);
+
+        for (String req : IMPORT_REQUIRED_COLUMNS)
+            if (!idx.containsKey(req))
+                throw new com.vinishchoudhary.reviewtracker.api.error.ValidationException(
+                        "Missing required column: " + req);
+
+        Set<String> seenOrderIds = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        String line;
+        long lineNo = 1;
+        while ((line = br.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank())
+                continue;
+            List<String> parts = parseCsvLine(line);
+            java.util.function.Function<String, String> get = (k) -> {
+                Integer i = idx.get(k);
+                return (i == null || i >= parts.size()) ? null : parts.get(i);
+            };
+            String orderId = get.apply("orderId");
+            if (orderId == null || orderId.isBlank()) {
+                report.addError(lineNo, null, "orderId is required in CSV");
+                continue;
+            }
+            if (!seenOrderIds.add(orderId)) {
+                report.addError(lineNo, orderId, "Duplicate orderId in CSV");
+                continue;
+            }
+
+            Review r = Review.builder()
+                    .orderId(orderId)
+                    .orderLink(get.apply("orderLink"))
+                    .productName(get.apply("productName"))
+                    .dealType(get.apply("dealType"))
+                    .platformId(get.apply("platformId"))
+                    .mediatorId(get.apply("mediatorId"))
+                    .amountRupees(parseBig(get.apply("amountRupees")))
+                    .lessRupees(parseBig(get.apply("lessRupees")))
+                    .refundAmountRupees(parseBig(get.apply("refundAmountRupees")))
+                    .orderedDate(parseDate(get.apply("orderedDate")))
+                    .deliveryDate(parseDate(get.apply("deliveryDate")))
+                    .reviewSubmitDate(parseDate(get.apply("reviewSubmitDate")))
+                    .reviewAcceptedDate(parseDate(get.apply("reviewAcceptedDate")))
+                    .ratingSubmittedDate(parseDate(get.apply("ratingSubmittedDate")))
+                    .refundFormSubmittedDate(parseDate(get.apply("refundFormSubmittedDate")))
+                    .paymentReceivedDate(parseDate(get.apply("paymentReceivedDate")))
+                    .refundFormUrl(get.apply("refundFormUrl"))
+                    .build();
+
+            // Compute refund if not provided
+            if (r.getRefundAmountRupees() == null && r.getAmountRupees() != null && r.getLessRupees() != null) {
+                r.setRefundAmountRupees(r.getAmountRupees().subtract(r.getLessRupees()));
+            }
+            // Compute status
+            r.setStatus(DealFlow.statusOf(r));
+            chunk.add(new ImportRow(lineNo, r));
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importChunk(chunk, report);
+                chunk.clear();
+                onChunk.accept(report);
+            }
+        }
+        importChunk(chunk, report);
+        onChunk.accept(report);
+        return report;
+    }
+
+    private record ImportRow(long line, Review review) {
+    }
+
+    private void importChunk(List<ImportRow> chunk, ImportReport report) {
+        if (chunk.isEmpty())
+            return;
+        Set<String> existing = reviewRepo.findExistingOrderIds(
+                chunk.stream().map(row -> row.review().getOrderId()).toList());
+
+        Instant now = Instant.now();
+        List<ImportRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existing.contains(row.review().getOrderId())) {
+                report.addError(row.line(), row.review().getOrderId(), "Duplicate orderId in DB");
+                continue;
             }
+            // Assign ids up front so history can reference them; version 0 keeps later saves as updates.
+            // With a version set, auditing treats the review as existing and would skip createdAt.
+            row.review().setId(new org.bson.types.ObjectId().toHexString());
+            row.review().setVersion(0L);
+            row.review().setCreatedAt(now);
+            row.review().setUpdatedAt(now);
+            rows.add(row);
         }
-        return reviewRepo.saveAll(reviews);
+
+        Map<Integer, String> failures = reviewRepo.insertUnordered(rows.stream().map(ImportRow::review).toList());
+        List<ReviewHistory> history = new ArrayList<>(rows.size());
+        List<ReviewChangeEvent.Entry> changes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            String failure = failures.get(i);
+            if (failure != null) {
+                report.addError(row.line(), row.review().getOrderId(), failure);
+                continue;
+            }
+            history.add(ReviewHistory.builder()
+                    .reviewId(row.review().getId())
+                    .type("IMPORT")
+                    .at(now)
+                    .note("Imported from CSV")
+                    .build());
+            changes.add(new ReviewChangeEvent.Entry(null, row.review()));
+        }
+        report.addImported(changes.size());
+        historyService.logAll(history);
+        if (!changes.isEmpty())
+            events.publishEvent(new ReviewChangeEvent("IMPORT", changes));
     }
 
-    private static java.util.List<String> parseCsvLine(String line) {
+    static java.util.List<String> parseCsvLine(String line) {
         List<String> out = new ArrayList<>();
         StringBuilder cur = new StringBuilder();
         boolean inQ = false;
@@ -599,32 +761,4 @@ public class ReviewService {
     }
 
     // Dashboard and related stats removed for redesign
-
-    private String computeStatus(Review r) {
-        if (r.getPaymentReceivedDate() != null)
-            return "payment received";
-        if (r.getRefundFormSubmittedDate() != null)
-            return "refund form submitted";
-        String deal = r.getDealType() == null ? "REVIEW_SUBMISSION" : r.getDealType();
-        switch (deal) {
-            case "REVIEW_PUBLISHED":
-                if (r.getReviewAcceptedDate() != null)
-                    return "review accepted";
-                if (r.getReviewSubmitDate() != null)
-                    return "review submitted";
-                break;
-            case "RATING_ONLY":
-                if (r.getRatingSubmittedDate() != null)
-                    return "rating submitted";
-                break;
-            default: // REVIEW_SUBMISSION
-                if (r.getReviewSubmitDate() != null)
-                    return "review submitted";
-        }
-        if (r.getDeliveryDate() != null)
-            return "delivered";
-        if (r.getOrderedDate() != null)
-            return "ordered";
-        return "ordered";
-    }
 }
@@ -0,0 +1,362 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.api.dto.Suggestion;
+import com.vinishchoudhary.reviewtracker.repository.SearchTokens;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead index over order IDs and product-name words.
+ * <p>
+ * Every review is a row with an int id. The bulk of the index is two sorted
+ * string arrays (normalized order IDs, product-name words) whose postings are
+ * plain {@code int[]} row ids, so a prefix lookup is a binary search followed by
+ * a sequential scan. Writes after the last compaction go to small sorted delta
+ * maps; an updated review gets a new row and its old row is marked dead. Once
+ * the delta or the dead rows grow past a threshold the index compacts itself.
+ * Thread-safe: lookups share a read lock, writes take the write lock.
+ */
+class SuggestIndex {
+    static final int MIN_COMPACT_THRESHOLD = 10_000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Rows
+    private String[] rowIds = new String[16];
+    private String[] rowOrderIds = new String[16];
+    private String[] rowNames = new String[16];
+    private int rowCount;
+    private final BitSet dead = new BitSet();
+    private final Map<String, Integer> rowOf = new HashMap<>();
+
+    // Compacted part: sorted keys, postings in CSR layout (rows of key i are
+    // postings[offsets[i] .. offsets[i + 1]))
+    private String[] orderKeys = new String[0];
+    private int[] orderRows = new int[0];
+    private String[] words = new String[0];
+    private int[] wordOffsets = {0};
+    private int[] wordPostings = new int[0];
+
+    // Written since the last compaction
+    private final TreeMap<String, IntList> orderDelta = new TreeMap<>();
+    private final TreeMap<String, IntList> wordDelta = new TreeMap<>();
+    private int deltaRows;
+
+    void put(String id, String orderId, String productName) {
+        lock.writeLock().lock();
+        try {
+            Integer old = rowOf.get(id);
+            if (old != null)
+                dead.set(old);
+            int row = appendRow(id, orderId, productName);
+            if (orderId != null)
+                orderDelta.computeIfAbsent(orderKey(orderId), k -> new IntList()).add(row);
+            for (String w : distinctWords(productName))
+                wordDelta.computeIfAbsent(w, k -> new IntList()).add(row);
+            deltaRows++;
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowOf.remove(id);
+            if (row != null) {
+                dead.set(row);
+                maybeCompact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Live reviews in the index. */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return rowOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Order-independent checksum of the live rows: the sum of their {@link #rowHash}es. */
+    long checksum() {
+        lock.readLock().lock();
+        try {
+            long sum = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (!dead.get(row))
+                    sum += rowHash(rowIds[row], rowOrderIds[row], rowNames[row]);
+            }
+            return sum;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 64-bit hash of one review's indexed fields, mixed so that sums of them stay well spread. */
+    static long rowHash(String id, String orderId, String productName) {
+        long h = Objects.hashCode(id);
+        h = h * 0x9E3779B97F4A7C15L + Objects.hashCode(orderId);
+        h = h * 0x9E3779B97F4A7C15L + Objects.hashCode(productName);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Order IDs starting with the input first, then reviews whose product name has a
+     * word starting with each input word (shorter, exact words first).
+     */
+    List<Suggestion> suggest(String input, int limit) {
+        String key = orderKey(input == null ? "" : input.trim());
+        List<String> terms = SearchTokens.words(input);
+        List<Suggestion> out = new ArrayList<>();
+        if (key.isEmpty() || limit < 1)
+            return out;
+        lock.readLock().lock();
+        try {
+            BitSet seen = new BitSet();
+            collectOrderMatches(key, limit, seen, out);
+            if (out.size() < limit && !terms.isEmpty())
+                collectWordMatches(terms, limit, seen, out);
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectOrderMatches(String key, int limit, BitSet seen, List<Suggestion> out) {
+        for (int i = lowerBound(orderKeys, key); i < orderKeys.length && orderKeys[i].startsWith(key); i++) {
+            accept(orderRows[i], "orderId", seen, out);
+            if (out.size() >= limit)
+                return;
+        }
+        for (Map.Entry<String, IntList> e : orderDelta.tailMap(key, true).entrySet()) {
+            if (!e.getKey().startsWith(key))
+                break;
+            IntList rows = e.getValue();
+            for (int j = 0; j < rows.size && out.size() < limit; j++)
+                accept(rows.values[j], "orderId", seen, out);
+            if (out.size() >= limit)
+                return;
+        }
+    }
+
+    private void collectWordMatches(List<String> terms, int limit, BitSet seen, List<Suggestion> out) {
+        String first = terms.get(0);
+        List<String> rest = terms.subList(1, terms.size());
+        for (int i = lowerBound(words, first); i < words.length && words[i].startsWith(first); i++) {
+            for (int p = wordOffsets[i]; p < wordOffsets[i + 1]; p++) {
+                int row = wordPostings[p];
+                if (matchesRest(row, rest))
+                    accept(row, "productName", seen, out);
+                if (out.size() >= limit)
+                    return;
+            }
+        }
+        for (Map.Entry<String, IntList> e : wordDelta.tailMap(first, true).entrySet()) {
+            if (!e.getKey().startsWith(first))
+                break;
+            IntList rows = e.getValue();
+            for (int j = 0; j < rows.size; j++) {
+                if (matchesRest(rows.values[j], rest))
+                    accept(rows.values[j], "productName", seen, out);
+                if (out.size() >= limit)
+                    return;
+            }
+        }
+    }
+
+    private boolean matchesRest(int row, List<String> rest) {
+        if (rest.isEmpty())
+            return true;
+        List<String> rowWords = SearchTokens.words(rowNames[row]);
+        for (String term : rest) {
+            if (rowWords.stream().noneMatch(w -> w.startsWith(term)))
+                return false;
+        }
+        return true;
+    }
+
+    private void accept(int row, String matched, BitSet seen, List<Suggestion> out) {
+        if (dead.get(row) || seen.get(row))
+            return;
+        seen.set(row);
+        out.add(new Suggestion(rowIds[row], rowOrderIds[row], rowNames[row], matched));
+    }
+
+    private int appendRow(String id, String orderId, String productName) {
+        if (rowCount == rowIds.length) {
+            int cap = rowIds.length * 2;
+            rowIds = Arrays.copyOf(rowIds, cap);
+            rowOrderIds = Arrays.copyOf(rowOrderIds, cap);
+            rowNames = Arrays.copyOf(rowNames, cap);
+        }
+        int row = rowCount++;
+        rowIds[row] = id;
+        rowOrderIds[row] = orderId;
+        rowNames[row] = productName;
+        rowOf.put(id, row);
+        return row;
+    }
+
+    private void maybeCompact() {
+        int threshold = Math.max(MIN_COMPACT_THRESHOLD, rowOf.size() / 4);
+        if (deltaRows + dead.cardinality() > threshold)
+            compact();
+    }
+
+    /** Folds the delta into the sorted arrays and drops dead rows. Caller holds the write lock. */
+    private void compact() {
+        String[] ids = new String[Math.max(16, rowOf.size())];
+        String[] orderIds = new String[ids.length];
+        String[] names = new String[ids.length];
+        int n = 0;
+        rowOf.clear();
+        for (int row = 0; row < rowCount; row++) {
+            if (dead.get(row))
+                continue;
+            ids[n] = rowIds[row];
+            orderIds[n] = rowOrderIds[row];
+            names[n] = rowNames[row];
+            rowOf.put(ids[n], n);
+            n++;
+        }
+        rowIds = ids;
+        rowOrderIds = orderIds;
+        rowNames = names;
+        rowCount = n;
+        dead.clear();
+
+        TreeMap<String, IntList> orders = new TreeMap<>();
+        TreeMap<String, IntList> byWord = new TreeMap<>();
+        for (int row = 0; row < n; row++) {
+            if (orderIds[row] != null)
+                orders.computeIfAbsent(orderKey(orderIds[row]), k -> new IntList()).add(row);
+            for (String w : distinctWords(names[row]))
+                byWord.computeIfAbsent(w, k -> new IntList()).add(row);
+        }
+        List<String> ok = new ArrayList<>();
+        IntList orow = new IntList();
+        orders.forEach((k, rows) -> {
+            for (int j = 0; j < rows.size; j++) {
+                ok.add(k);
+                orow.add(rows.values[j]);
+            }
+        });
+        orderKeys = ok.toArray(new String[0]);
+        orderRows = orow.toArray();
+
+        words = byWord.keySet().toArray(new String[0]);
+        wordOffsets = new int[words.length + 1];
+        IntList postings = new IntList();
+        int i = 0;
+        for (IntList rows : byWord.values()) {
+            wordOffsets[i] = postings.size;
+            for (int j = 0; j < rows.size; j++)
+                postings.add(rows.values[j]);
+            i++;
+        }
+        wordOffsets[words.length] = postings.size;
+        wordPostings = postings.toArray();
+
+        orderDelta.clear();
+        wordDelta.clear();
+        deltaRows = 0;
+    }
+
+    /** Bulk load: append every row, then build the sorted arrays once. */
+    void load(Iterable<String[]> rows) {
+        lock.writeLock().lock();
+        try {
+            for (String[] r : rows)
+                appendRow(r[0], r[1], r[2]);
+            compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate heap use, counting object headers and compressed references
+     * (Latin-1 strings: 24 byte String + 16 byte array header + 1 byte per char).
+     */
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (int row = 0; row < rowCount; row++)
+                bytes += stringBytes(rowIds[row]) + stringBytes(rowOrderIds[row]) + stringBytes(rowNames[row]);
+            bytes += 3L * (16 + 4L * rowIds.length);
+            // HashMap: table slot + 32 byte node + boxed Integer
+            bytes += rowOf.size() * (4L + 32 + 16);
+            // Order keys are their own lower-cased strings
+            for (String k : orderKeys)
+                bytes += stringBytes(k) + 4;
+            bytes += 16 + 4L * orderRows.length;
+            for (String w : words)
+                bytes += stringBytes(w) + 4;
+            bytes += 16 + 4L * wordOffsets.length + 16 + 4L * wordPostings.length;
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long stringBytes(String s) {
+        return s == null ? 0 : 40 + ((s.length() + 7) & ~7);
+    }
+
+    private static String orderKey(String orderId) {
+        return SearchTokens.normalize(orderId);
+    }
+
+    private static List<String> distinctWords(String text) {
+        return SearchTokens.words(text).stream().distinct().toList();
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(key) < 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    /** Growable int array, to keep postings unboxed. */
+    static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
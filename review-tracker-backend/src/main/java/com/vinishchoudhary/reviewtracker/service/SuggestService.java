@@ -0,0 +1,170 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.api.dto.Suggestion;
+import com.vinishchoudhary.reviewtracker.api.error.BadRequestException;
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import com.vinishchoudhary.reviewtracker.repository.ReviewRepository;
+import com.vinishchoudhary.reviewtracker.repository.ReviewSearchCriteria;
+import com.vinishchoudhary.reviewtracker.repository.SearchTokens;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead over order IDs and product names. With {@code app.suggest.enabled}
+ * (the default) lookups are served from an in-memory {@link SuggestIndex} built
+ * at startup and kept current from {@link ReviewChangeEvent}s; a periodic check
+ * rebuilds it when its size or row checksum no longer matches the collection (for example after
+ * writes from another instance). Without it, or until the first build finishes,
+ * lookups fall back to the indexed quick search in Mongo.
+ */
+@Service
+public class SuggestService {
+    private static final Logger log = LoggerFactory.getLogger(SuggestService.class);
+    static final int MAX_LIMIT = 50;
+
+    private final ReviewRepository reviewRepo;
+    private final MeterRegistry meters;
+    private final boolean enabled;
+    private volatile SuggestIndex index; // null until built
+    // Changes seen while a rebuild is reading the collection, replayed onto the new index
+    private List<ReviewChangeEvent.Entry> pending;
+
+    public SuggestService(ReviewRepository reviewRepo, MeterRegistry meters,
+                          @Value("${app.suggest.enabled:true}") boolean enabled) {
+        this.reviewRepo = reviewRepo;
+        this.meters = meters;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("review.suggest.rows", this, s -> s.index == null ? 0 : s.index.size())
+                .description("Reviews in the in-memory suggest index")
+                .register(meters);
+        Gauge.builder("review.suggest.bytes", this, s -> s.index == null ? 0 : s.index.estimatedBytes())
+                .description("Approximate heap used by the suggest index")
+                .baseUnit("bytes")
+                .register(meters);
+    }
+
+    public List<Suggestion> suggest(String q, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        if (q == null || q.isBlank())
+            return List.of();
+        SuggestIndex idx = index;
+        if (idx != null)
+            return idx.suggest(q, limit);
+
+        ReviewSearchCriteria criteria = ReviewSearchCriteria.builder()
+                .productNameContains(q)
+                .orderIdContains(q)
+                .build();
+        String key = SearchTokens.normalize(q.trim());
+        List<Suggestion> out = new ArrayList<>();
+        for (Review r : reviewRepo.searchReviews(criteria, PageRequest.of(0, limit, Sort.by("relevance"))))
+            out.add(new Suggestion(r.getId(), r.getOrderId(), r.getProductName(),
+                    r.getOrderId() != null && SearchTokens.normalize(r.getOrderId()).startsWith(key)
+                            ? "orderId" : "productName"));
+        return out;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled)
+            return;
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Suggest index build failed, using Mongo lookups: {}", e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        long started = System.nanoTime();
+        SuggestIndex fresh = new SuggestIndex();
+        List<String[]> rows = new ArrayList<>();
+        try (Stream<Review> all = reviewRepo.streamSuggestFields(1000)) {
+            all.forEach(r -> rows.add(new String[] { r.getId(), r.getOrderId(), r.getProductName() }));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            throw e;
+        }
+        fresh.load(rows);
+        synchronized (this) {
+            pending.forEach(e -> apply(fresh, e));
+            pending = null;
+            index = fresh;
+        }
+        log.info("Suggest index built: {} reviews, ~{} KB, {} ms", fresh.size(), fresh.estimatedBytes() / 1024,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @EventListener
+    public void onReviewChange(ReviewChangeEvent event) {
+        synchronized (this) {
+            if (pending != null)
+                pending.addAll(event.entries());
+        }
+        SuggestIndex idx = index;
+        if (idx != null)
+            event.entries().forEach(e -> apply(idx, e));
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.verify-interval:10m}",
+            initialDelayString = "${app.suggest.verify-interval:10m}")
+    public void verify() {
+        SuggestIndex idx = index;
+        if (!enabled || idx == null)
+            return;
+        int indexed = idx.size();
+        long indexedSum = idx.checksum();
+        long[] stored = new long[2]; // count, checksum
+        try (Stream<Review> all = reviewRepo.streamSuggestFields(1000)) {
+            all.forEach(r -> {
+                stored[0]++;
+                stored[1] += SuggestIndex.rowHash(r.getId(), r.getOrderId(), r.getProductName());
+            });
+        }
+        // A write landing between the two reads also looks like drift; the rebuild is harmless
+        if (stored[0] != indexed || stored[1] != indexedSum) {
+            log.warn("Suggest index drifted ({} indexed, {} stored, checksum {}), rebuilding", indexed, stored[0],
+                    stored[1] == indexedSum ? "equal" : "differs");
+            rebuild();
+        }
+    }
+
+    private static void apply(SuggestIndex idx, ReviewChangeEvent.Entry e) {
+        Review after = e.after();
+        if (after == null) {
+            idx.remove(e.id());
+        } else {
+            Review before = e.before();
+            // Advances and bulk edits leave the indexed fields alone
+            if (before != null && Objects.equals(before.getOrderId(), after.getOrderId())
+                    && Objects.equals(before.getProductName(), after.getProductName()))
+                return;
+            idx.put(after.getId(), after.getOrderId(), after.getProductName());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.vinishchoudhary.reviewtracker;
 
+import com.vinishchoudhary.reviewtracker.api.dto.BulkResult;
+import com.vinishchoudhary.reviewtracker.api.dto.ImportReport;
 import com.vinishchoudhary.reviewtracker.domain.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -97,8 +99,9 @@ class ReviewControllerE2ETest {
         bulkBody.put("ids", List.of(created1.getId(), created2.getId()));
         // update example: set mediatorId to same mediator
         bulkBody.put("updates", Map.of("mediatorId", mediator.getId()));
-        Review[] bulkUpdated = restTemplate.postForObject("/api/reviews/bulk-update", bulkBody, Review[].class);
-        assertThat(bulkUpdated).hasSize(2);
+        BulkResult bulkUpdated = restTemplate.postForObject("/api/reviews/bulk-update", bulkBody, BulkResult.class);
+        assertThat(bulkUpdated.getResults()).hasSize(2);
+        assertThat(bulkUpdated.getFailed()).isZero();
 
         // history
         ReviewHistory[] history = restTemplate.getForObject("/api/reviews/" + created1.getId() + "/history",
@@ -122,16 +125,24 @@ class ReviewControllerE2ETest {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
         HttpEntity<MultiValueMap<String, Object>> importReq = new HttpEntity<>(parts, headers);
-        ResponseEntity<Review[]> importResp = restTemplate.postForEntity("/api/reviews/import", importReq,
-                Review[].class);
-        assertThat(importResp.getBody()).hasSize(1);
+        ResponseEntity<ImportReport> importResp = restTemplate.postForEntity("/api/reviews/import", importReq,
+                ImportReport.class);
+        assertThat(importResp.getBody().getImported()).isEqualTo(1);
+        assertThat(importResp.getBody().getFailed()).isZero();
+        Review imported = mongoTemplate.findOne(
+                new org.springframework.data.mongodb.core.query.Query(
+                        org.springframework.data.mongodb.core.query.Criteria.where("orderId").is("O3")),
+                Review.class);
+        assertThat(imported.getCreatedAt()).isNotNull();
+        assertThat(imported.getUpdatedAt()).isNotNull();
 
         // dashboard removed in redesign; skip dashboard assertions
 
         // bulk delete
         HttpEntity<List<String>> deleteReq = new HttpEntity<>(
                 List.of(created1.getId(), created2.getId(), clone.getId()));
-        restTemplate.postForEntity("/api/reviews/bulk-delete", deleteReq, Void.class);
+        BulkResult deleted = restTemplate.postForObject("/api/reviews/bulk-delete", deleteReq, BulkResult.class);
+        assertThat(deleted.getSucceeded()).isEqualTo(3);
         Review[] remaining = restTemplate.getForObject("/api/reviews", Review[].class);
         assertThat(remaining.length).isGreaterThanOrEqualTo(1);
     }
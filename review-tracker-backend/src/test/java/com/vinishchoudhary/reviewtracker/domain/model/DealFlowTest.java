@@ -0,0 +1,78 @@
+package com.vinishchoudhary.reviewtracker.domain.model;
+
+import com.vinishchoudhary.reviewtracker.api.error.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DealFlowTest {
+    private static final LocalDate D = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void statusIsTheFurthestStepInTheDealTypesFlow() {
+        Review r = Review.builder().orderedDate(D).deliveryDate(D).reviewAcceptedDate(D).build();
+        assertThat(DealFlow.of(r).status(r)).isEqualTo("delivered");
+        r.setDealType("REVIEW_PUBLISHED");
+        assertThat(DealFlow.of(r).status(r)).isEqualTo("review accepted");
+        r.setDealType("RATING_ONLY");
+        r.setPaymentReceivedDate(D);
+        assertThat(DealFlow.of(r).status(r)).isEqualTo("payment received");
+        assertThat(DealFlow.of(new Review()).status(new Review())).isEqualTo("ordered");
+    }
+
+    @Test
+    void validationComparesEachDateWithThePreviousStep() {
+        Review r = Review.builder().dealType("RATING_ONLY").orderedDate(D).deliveryDate(D.plusDays(2))
+                .ratingSubmittedDate(D.plusDays(1)).reviewSubmitDate(D).build();
+        assertThatThrownBy(() -> DealFlow.of(r).validatedStatus(r)).isInstanceOf(ValidationException.class)
+                .hasMessage("ratingSubmittedDate must be >= deliveryDate");
+        r.setDeliveryDate(null);
+        assertThat(DealFlow.of(r).validatedStatus(r)).isEqualTo("rating submitted");
+    }
+
+    @Test
+    void progressTableAgreesWithAWalkOverTheSteps() {
+        for (String type : DealFlow.all().keySet()) {
+            for (int mask = 0; mask < 1 << Step.values().length; mask++) {
+                Review r = Review.builder().dealType(type).build();
+                for (Step s : Step.values())
+                    if ((mask & 1 << s.ordinal()) != 0)
+                        s.set(r, D.plusDays(s.ordinal()));
+                DealFlow flow = DealFlow.of(r);
+                Step reached = null;
+                Step next = null;
+                for (String field : DealFlow.stepsFor(type)) {
+                    Step s = Step.forField(field);
+                    if (s.get(r) != null)
+                        reached = s;
+                    else if (next == null)
+                        next = s;
+                }
+                String status = reached == null ? "ordered" : reached.status();
+                DealFlow.Progress expected = new DealFlow.Progress(status, next);
+                assertThat(flow.progress(r)).as("%s mask %s", type, mask).isEqualTo(expected);
+                assertThat(flow.validatedProgress(r)).isEqualTo(expected);
+                assertThat(flow.status(r)).isEqualTo(status);
+                assertThat(DealFlow.statusOf(r)).isEqualTo(status);
+                assertThat(flow.next(r)).isEqualTo(next);
+            }
+        }
+    }
+
+    @Test
+    void advanceDatesTheFirstOpenStepAndClearsTheRest() {
+        Review r = Review.builder().dealType("UNKNOWN").orderedDate(D).paymentReceivedDate(D).build();
+        assertThat(DealFlow.of(r).next(r)).isEqualTo(Step.DELIVERED);
+        assertThat(DealFlow.of(r).advance(r, D.plusDays(3))).isEqualTo(Step.DELIVERED);
+        assertThat(r.getDeliveryDate()).isEqualTo(D.plusDays(3));
+        assertThat(r.getPaymentReceivedDate()).isNull();
+        assertThat(r.getStatus()).isEqualTo("delivered");
+
+        Review done = Review.builder().orderedDate(D).deliveryDate(D).reviewSubmitDate(D)
+                .refundFormSubmittedDate(D).paymentReceivedDate(D).build();
+        assertThat(DealFlow.of(done).advance(done, D)).isNull();
+    }
+}
@@ -0,0 +1,29 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AmountRangeTest {
+
+    @Test
+    void parsesOpenAndClosedRanges() {
+        assertThat(AmountRange.parse("amountRupees:500..2000"))
+                .isEqualTo(new AmountRange("amountRupees", new BigDecimal("500"), new BigDecimal("2000")));
+        assertThat(AmountRange.parse("refundAmountRupees:..99.50"))
+                .isEqualTo(new AmountRange("refundAmountRupees", null, new BigDecimal("99.50")));
+        assertThat(AmountRange.parse("amountRupees:1.5.."))
+                .isEqualTo(new AmountRange("amountRupees", new BigDecimal("1.5"), null));
+    }
+
+    @Test
+    void rejectsUnindexedFieldsAndBadAmounts() {
+        assertThatThrownBy(() -> AmountRange.parse("lessRupees:1..")).hasMessageContaining("Unknown amount field");
+        assertThatThrownBy(() -> AmountRange.parse("amountRupees:abc..")).hasMessageContaining("Bad amount");
+        assertThatThrownBy(() -> AmountRange.parse("amountRupees:10..5")).hasMessageContaining("starts after it ends");
+        assertThatThrownBy(() -> AmountRange.parse("amountRupees")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DateRangeTest {
+
+    @Test
+    void parsesOpenAndClosedRanges() {
+        assertThat(DateRange.parse("deliveryDate:2024-01-01..2024-03-31"))
+                .isEqualTo(new DateRange("deliveryDate", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31)));
+        assertThat(DateRange.parse("paymentReceivedDate:..2024-03-31"))
+                .isEqualTo(new DateRange("paymentReceivedDate", null, LocalDate.of(2024, 3, 31)));
+        assertThat(DateRange.parse("orderedDate:2024-01-01.."))
+                .isEqualTo(new DateRange("orderedDate", LocalDate.of(2024, 1, 1), null));
+    }
+
+    @Test
+    void rejectsUnknownFieldsAndBadDates() {
+        assertThatThrownBy(() -> DateRange.parse("createdAt:2024-01-01..")).hasMessageContaining("Unknown date field");
+        assertThatThrownBy(() -> DateRange.parse("deliveryDate:2024-13-01..")).hasMessageContaining("Bad date");
+        assertThatThrownBy(() -> DateRange.parse("deliveryDate:2024-03-01..2024-01-01"))
+                .hasMessageContaining("starts after it ends");
+        assertThatThrownBy(() -> DateRange.parse("deliveryDate")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
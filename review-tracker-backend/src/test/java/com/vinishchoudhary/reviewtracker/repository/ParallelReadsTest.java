@@ -0,0 +1,74 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelReadsTest {
+
+    @Test
+    void virtualModeRunsBothReadsAtOnce() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        String result = new ParallelReads(true).both(() -> meet(bothStarted, "count"), () -> meet(bothStarted, "page"),
+                (a, b) -> a + "+" + b);
+        assertThat(result).isEqualTo("count+page");
+    }
+
+    @Test
+    void platformModeRunsInTurnOnTheCaller() {
+        Thread caller = Thread.currentThread();
+        String result = new ParallelReads(false).both(() -> Thread.currentThread() == caller,
+                () -> Thread.currentThread() == caller, (a, b) -> a + "+" + b);
+        assertThat(result).isEqualTo("true+true");
+    }
+
+    @Test
+    void forkedFailureReachesTheCaller() {
+        assertThatThrownBy(() -> new ParallelReads(true).both(() -> {
+            throw new IllegalArgumentException("bad sort");
+        }, () -> 1, (a, b) -> b)).isInstanceOf(IllegalArgumentException.class).hasMessage("bad sort");
+    }
+
+    @Test
+    void callerFailureCancelsTheFork() throws InterruptedException {
+        CountDownLatch forkRunning = new CountDownLatch(1);
+        CountDownLatch forkDone = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        assertThatThrownBy(() -> new ParallelReads(true).both(() -> {
+            forkRunning.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                forkDone.countDown();
+            }
+            return 0;
+        }, () -> {
+            await(forkRunning);
+            throw new IllegalStateException("page failed");
+        }, (a, b) -> b)).hasMessage("page failed");
+        assertThat(forkDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isTrue();
+    }
+
+    private static String meet(CountDownLatch latch, String value) {
+        latch.countDown();
+        await(latch);
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS))
+                throw new IllegalStateException("timed out");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
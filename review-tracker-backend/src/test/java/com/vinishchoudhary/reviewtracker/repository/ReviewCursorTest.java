@@ -0,0 +1,46 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReviewCursorTest {
+
+    @Test
+    void roundTripPreservesBsonTypes() {
+        ObjectId id = new ObjectId();
+        Date when = new Date(1_700_000_000_000L);
+        ReviewCursor date = ReviewCursor.decode(new ReviewCursor("orderedDate", "DESC", when, id).encode());
+        assertThat(date.value()).isEqualTo(when);
+        assertThat(date.id()).isEqualTo(id);
+        assertThat(date.sort()).isEqualTo("orderedDate");
+        assertThat(date.dir()).isEqualTo("DESC");
+
+        Decimal128 amount = new Decimal128(new BigDecimal("120.50"));
+        assertThat(ReviewCursor.decode(new ReviewCursor("amountRupees", "ASC", amount, id).encode()).value())
+                .isEqualTo(amount);
+        assertThat(ReviewCursor.decode(new ReviewCursor("deliveryDate", "ASC", null, id).encode()).value())
+                .isNull();
+    }
+
+    @Test
+    void rejectsGarbageAndOperatorPayloads() {
+        assertThatThrownBy(() -> ReviewCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        String injected = new Document("s", "status").append("d", "ASC")
+                .append("v", new Document("$ne", null)).append("i", new ObjectId()).toJson();
+        String token = Base64.getUrlEncoder().encodeToString(injected.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> ReviewCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Asserts through explain() that the standard table queries are served by indexes. */
+@SpringBootTest
+class ReviewIndexPlanTest {
+
+    private static final List<String> STATUSES = List.of("ordered", "delivered", "review submitted",
+            "payment received");
+    private static final List<String> DEAL_TYPES = List.of("REVIEW_SUBMISSION", "REVIEW_PUBLISHED", "RATING_ONLY");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.remove(new Query(), Review.class);
+        List<Review> reviews = new ArrayList<>();
+        LocalDate base = LocalDate.now().minusDays(60);
+        for (int i = 0; i < 300; i++) {
+            String status = STATUSES.get(i % STATUSES.size());
+            reviews.add(Review.builder()
+                    .orderId("PLAN-" + i)
+                    .productName("Product " + i)
+                    .platformId("p" + (i % 5))
+                    .mediatorId("m" + (i % 7))
+                    .dealType(DEAL_TYPES.get(i % DEAL_TYPES.size()))
+                    .status(status)
+                    .amountRupees(new BigDecimal(100 + i))
+                    .orderedDate(base.plusDays(i % 30))
+                    .deliveryDate(base.plusDays(i % 30 + 3))
+                    .paymentReceivedDate("payment received".equals(status) ? base.plusDays(40) : null)
+                    .version(0L)
+                    .build());
+        }
+        mongoTemplate.insertAll(reviews);
+    }
+
+    @Test
+    void defaultOrderUsesCreatedAtIndex() {
+        assertIndexed(new ReviewSearchCriteria(), new Document("createdAt", -1));
+    }
+
+    @Test
+    void multiSelectFiltersMergeSortedIndexScans() {
+        Document newestFirst = new Document("createdAt", -1);
+        assertIndexed(ReviewSearchCriteria.builder().statusIn(List.of("ordered", "delivered")).build(), newestFirst);
+        assertIndexed(ReviewSearchCriteria.builder().platformIdIn(List.of("p1", "p3")).build(), newestFirst);
+        assertIndexed(ReviewSearchCriteria.builder().mediatorIdIn(List.of("m2")).build(), newestFirst);
+        assertIndexed(ReviewSearchCriteria.builder().dealTypeIn(List.of("RATING_ONLY", "REVIEW_PUBLISHED")).build(),
+                newestFirst);
+    }
+
+    @Test
+    void columnSortsUseSortKeyIndexes() {
+        assertIndexed(new ReviewSearchCriteria(), new Document("deliveryDate", 1));
+        assertIndexed(new ReviewSearchCriteria(), new Document("amountRupees", -1));
+        assertIndexed(new ReviewSearchCriteria(), new Document("status", 1));
+        assertIndexed(new ReviewSearchCriteria(), new Document("platformName", 1));
+        assertIndexed(new ReviewSearchCriteria(), new Document("mediatorName", -1));
+    }
+
+    @Test
+    void unpaidCountUsesPartialIndex() {
+        Query query = ReviewRepositoryImpl.unpaidDeliveredBeforeQuery(LocalDate.now());
+        assertThat(stages(explain(query.getQueryObject(), new Document())))
+                .extracting(s -> s.getString("stage")).doesNotContain("COLLSCAN");
+        // with status_id as an equally good candidate the planner may pick either; the
+        // partial index has to exist and be eligible for this query shape
+        Document all = mongoTemplate.getCollection("reviews").find(
+                new QueryMapper(mongoTemplate.getConverter()).getMappedObject(query.getQueryObject(), entity()))
+                .hintString("deliveryDate_unpaid").explain();
+        assertThat(stages(all.get("queryPlanner", Document.class).get("winningPlan", Document.class)))
+                .anyMatch(s -> "deliveryDate_unpaid".equals(s.getString("indexName")));
+    }
+
+    private void assertIndexed(ReviewSearchCriteria criteria, Document sort) {
+        Document plan = explain(ReviewRepositoryImpl.filterQuery(criteria).getQueryObject(), sort);
+        assertThat(stages(plan)).extracting(s -> s.getString("stage"))
+                .as("plan for %s sorted by %s", plan, sort)
+                .doesNotContain("COLLSCAN", "SORT");
+    }
+
+    private Document explain(Document filter, Document sort) {
+        Document mapped = new QueryMapper(mongoTemplate.getConverter()).getMappedObject(filter, entity());
+        var find = mongoTemplate.getCollection("reviews").find(mapped).sort(sort).limit(20);
+        // Name sorts only use the name indexes under the same collation the repository queries with
+        Collation collation = ReviewRepositoryImpl.collationFor(Sort.by(sort.keySet().toArray(String[]::new)));
+        if (collation != null) find = find.collation(collation.toMongoCollation());
+        Document explained = find.explain();
+        return explained.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+    }
+
+    private MongoPersistentEntity<?> entity() {
+        return mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Review.class);
+    }
+
+    /** Every plan stage, whether the classic engine nests them as inputStage(s) or SBE under queryPlan. */
+    private static List<Document> stages(Document plan) {
+        List<Document> out = new ArrayList<>();
+        collect(plan, out);
+        return out;
+    }
+
+    private static void collect(Object node, List<Document> out) {
+        if (node instanceof Document d) {
+            if (d.containsKey("stage"))
+                out.add(d);
+            d.values().forEach(v -> collect(v, out));
+        } else if (node instanceof List<?> list) {
+            list.forEach(v -> collect(v, out));
+        }
+    }
+}
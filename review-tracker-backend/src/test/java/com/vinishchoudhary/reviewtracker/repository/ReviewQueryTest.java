@@ -0,0 +1,95 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Review;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** The $facet query behind /query and /aggregates: page, count and totals in one aggregation. */
+@SpringBootTest
+class ReviewQueryTest {
+
+    @Autowired
+    private ReviewRepository reviewRepo;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.remove(new Query(), Review.class);
+        reviewRepo.saveAll(List.of(
+                review("Q-1", "Blue Kit", "300", "30"),
+                review("Q-2", "Kit Bag", "100", "10"),
+                review("KIT", "Coffee Mug", "500", "50"),
+                review("Q-4", "Desk Lamp", "200", "20"),
+                review("Q-5", "Lamp Shade", "400", "40")));
+    }
+
+    private static Review review(String orderId, String name, String amount, String less) {
+        return Review.builder()
+                .orderId(orderId)
+                .productName(name)
+                .status("ordered")
+                .amountRupees(new BigDecimal(amount))
+                .lessRupees(new BigDecimal(less))
+                .refundAmountRupees(new BigDecimal(amount).subtract(new BigDecimal(less)))
+                .build();
+    }
+
+    private static List<String> orderIds(ReviewQueryResult result) {
+        return result.content().stream().map(Review::getOrderId).toList();
+    }
+
+    @Test
+    void sortsThenSkipsAndLimits() {
+        ReviewQueryResult page = reviewRepo.queryReviews(new ReviewSearchCriteria(),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "amountRupees")), false);
+        assertThat(orderIds(page)).containsExactly("Q-1", "Q-5");
+        assertThat(page.total()).isEqualTo(5);
+        assertThat(page.totals()).isNull();
+
+        ReviewQueryResult pastTheEnd = reviewRepo.queryReviews(new ReviewSearchCriteria(),
+                PageRequest.of(3, 2, Sort.by(Sort.Direction.DESC, "amountRupees")), false);
+        assertThat(pastTheEnd.content()).isEmpty();
+        assertThat(pastTheEnd.total()).isEqualTo(5);
+    }
+
+    @Test
+    void ordersQuickSearchByRelevance() {
+        ReviewSearchCriteria kit = ReviewSearchCriteria.builder().productNameContains("kit").orderIdContains("kit")
+                .build();
+        ReviewQueryResult result = reviewRepo.queryReviews(kit,
+                PageRequest.of(0, 10, Sort.by(ReviewRepositoryImpl.RELEVANCE)), false);
+        // exact order ID, then names starting with the text, then names containing it
+        assertThat(orderIds(result)).containsExactly("KIT", "Q-2", "Q-1");
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    void totalsCoverEveryMatchNotJustThePage() {
+        ReviewSearchCriteria lamps = ReviewSearchCriteria.builder().productNameContains("lamp").build();
+        ReviewQueryResult result = reviewRepo.queryReviews(lamps,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "amountRupees")), true);
+        assertThat(orderIds(result)).containsExactly("Q-5");
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.totals()).containsEntry("count", 2L)
+                .containsEntry("totalAmount", 600.0)
+                .containsEntry("totalRefund", 540.0);
+
+        ReviewQueryResult unpaged = reviewRepo.queryReviews(lamps, Pageable.unpaged(), true);
+        assertThat(unpaged.content()).isEmpty();
+        assertThat(unpaged.totals()).containsEntry("count", 2L);
+    }
+}
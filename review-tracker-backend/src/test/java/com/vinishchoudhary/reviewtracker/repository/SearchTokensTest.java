@@ -0,0 +1,53 @@
+package com.vinishchoudhary.reviewtracker.repository;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokensTest {
+
+    @Test
+    void indexesEdgeGramsOfNormalizedWords() {
+        assertThat(SearchTokens.index("Crème  Brûlée-Kit"))
+                .containsExactly("cr", "cre", "crem", "creme", "br", "bru", "brul", "brule", "brulee",
+                        "ki", "kit");
+        assertThat(SearchTokens.index(null)).isEmpty();
+        assertThat(SearchTokens.index("a 4K")).containsExactly("a", "4k");
+    }
+
+    @Test
+    void queryTokensAreWordsCutToMaxGram() {
+        assertThat(SearchTokens.query("  Brûl  KIT!")).containsExactly("brul", "kit");
+        assertThat(SearchTokens.query("supercalifragilistic")).containsExactly("supercalifragil");
+        assertThat(SearchTokens.query("*()")).isEmpty();
+    }
+
+    @Test
+    void textIsNormalizedWordsJoinedBySpaces() {
+        assertThat(SearchTokens.text("  Crème  Brûlée-KIT ")).isEqualTo("creme brulee kit");
+        assertThat(SearchTokens.text(null)).isEmpty();
+    }
+
+    @Test
+    void shortTermsFallBackToPrefixRegex() {
+        Document single = ReviewRepositoryImpl.tokensCriteria(SearchTokens.query("k")).getCriteriaObject();
+        assertThat(single.get("searchTokens")).isInstanceOf(Pattern.class);
+        assertThat(((Pattern) single.get("searchTokens")).pattern()).isEqualTo("^k");
+
+        Document mixed = ReviewRepositoryImpl.tokensCriteria(SearchTokens.query("blue k")).getCriteriaObject();
+        assertThat(mixed.getList("$and", Document.class)).hasSize(2);
+
+        // case is folded into orderIdKey, so the prefix regex never needs the "i" flag
+        Pattern orderId = (Pattern) ReviewRepositoryImpl.orderIdPrefix("AB-1").getCriteriaObject().get("orderIdKey");
+        assertThat(orderId.pattern()).isEqualTo("^ab\\-1");
+        assertThat(orderId.flags()).isZero();
+    }
+
+    @Test
+    void escapesRegexMetacharacters() {
+        assertThat(SearchTokens.escapeRegex("408-12.3*(x)")).isEqualTo("408\\-12\\.3\\*\\(x\\)");
+    }
+}
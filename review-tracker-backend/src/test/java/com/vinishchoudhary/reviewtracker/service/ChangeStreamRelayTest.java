@@ -0,0 +1,28 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.mongodb.client.model.changestream.UpdateDescription;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeStreamRelayTest {
+
+    @Test
+    void recognisesRenameOnlyUpdates() {
+        assertThat(ChangeStreamRelay.isLookupRename(new UpdateDescription(List.of(),
+                new BsonDocument("platformName", new BsonString("Amazon"))))).isTrue();
+        assertThat(ChangeStreamRelay.isLookupRename(new UpdateDescription(List.of("mediatorName"),
+                new BsonDocument()))).isTrue();
+
+        assertThat(ChangeStreamRelay.isLookupRename(new UpdateDescription(List.of(),
+                new BsonDocument("platformName", new BsonString("Amazon")).append("version", new BsonInt64(2)))))
+                .isFalse();
+        assertThat(ChangeStreamRelay.isLookupRename(new UpdateDescription(List.of(), new BsonDocument()))).isFalse();
+        assertThat(ChangeStreamRelay.isLookupRename(null)).isFalse();
+    }
+}
@@ -0,0 +1,46 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.domain.model.Platform;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LookupCacheTest {
+
+    private final List<Platform> stored = new ArrayList<>(List.of(new Platform("p1", "Myntra"),
+            new Platform("p2", "Amazon"), new Platform("p3", "Flipkart")));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final LookupCache<Platform> cache = new LookupCache<>(() -> {
+        loads.incrementAndGet();
+        return List.copyOf(stored);
+    }, Platform::getId, Map.of("id", Platform::getId, "name", Platform::getName));
+
+    @Test
+    void loadsOnceUntilInvalidated() {
+        cache.get();
+        cache.get();
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get().byId().get("p2").getName()).isEqualTo("Amazon");
+
+        stored.add(new Platform("p4", "Ajio"));
+        cache.invalidate();
+        assertThat(cache.get().byId()).containsKey("p4");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void pagesSortedInMemory() {
+        var page = cache.page(PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "name")));
+        assertThat(page.getContent()).extracting(Platform::getName).containsExactly("Amazon", "Flipkart");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(cache.page(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name"))).getContent())
+                .extracting(Platform::getName).containsExactly("Amazon");
+    }
+}
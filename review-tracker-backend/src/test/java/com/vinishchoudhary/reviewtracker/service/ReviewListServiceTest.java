@@ -0,0 +1,29 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewListServiceTest {
+
+    @Test
+    void presetColumnsFollowColOrderAndSkipHidden() {
+        Map<String, Object> config = Map.of(
+                "colOrder", List.of("status", "orderId", "platformName", "amountRupees"),
+                "visibleCols", Map.of("orderId", true, "status", true, "platformName", false, "amountRupees", true));
+        assertThat(ReviewListService.visibleColumns(config)).containsExactly("status", "orderId", "amountRupees");
+    }
+
+    @Test
+    void columnsMissingFromVisibleColsAreShown() {
+        assertThat(ReviewListService.visibleColumns(Map.of("colOrder", List.of("image", "orderId", "status"),
+                "visibleCols", Map.of("status", false)))).containsExactly("image", "orderId");
+        assertThat(ReviewListService.visibleColumns(Map.of("visibleCols", Map.of("productName", false))))
+                .containsExactly("orderId", "platformName", "status", "dealType", "mediatorName", "amountRupees",
+                        "refundAmountRupees", "orderedDate");
+        assertThat(ReviewListService.visibleColumns(null)).isEqualTo(ReviewListService.DEFAULT_COLUMNS);
+    }
+}
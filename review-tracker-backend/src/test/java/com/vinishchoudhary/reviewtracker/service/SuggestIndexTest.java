@@ -0,0 +1,80 @@
+package com.vinishchoudhary.reviewtracker.service;
+
+import com.vinishchoudhary.reviewtracker.api.dto.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestIndexTest {
+
+    private static SuggestIndex loaded() {
+        SuggestIndex idx = new SuggestIndex();
+        idx.load(List.of(
+                new String[] { "r1", "408-111", "Blue Kitchen Kettle" },
+                new String[] { "r2", "408-222", "Kit for Bikes" },
+                new String[] { "r3", "171-333", "Crème Brûlée Kit" }));
+        return idx;
+    }
+
+    private static List<String> ids(List<Suggestion> s) {
+        return s.stream().map(Suggestion::id).toList();
+    }
+
+    @Test
+    void orderIdPrefixComesBeforeProductWords() {
+        SuggestIndex idx = loaded();
+        assertThat(ids(idx.suggest("408-2", 10))).containsExactly("r2");
+        assertThat(idx.suggest("408", 10)).extracting(Suggestion::matched).containsOnly("orderId");
+        // "kit" (exact word) sorts before "kitchen"
+        assertThat(ids(idx.suggest("kit", 10))).containsExactly("r2", "r3", "r1");
+        assertThat(ids(idx.suggest("brul kit", 10))).containsExactly("r3");
+        assertThat(idx.suggest("kit", 2)).hasSize(2);
+        assertThat(idx.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void checksumTracksContentNotJustSize() {
+        SuggestIndex idx = loaded();
+        long before = idx.checksum();
+        assertThat(before).isEqualTo(SuggestIndex.rowHash("r1", "408-111", "Blue Kitchen Kettle")
+                + SuggestIndex.rowHash("r2", "408-222", "Kit for Bikes")
+                + SuggestIndex.rowHash("r3", "171-333", "Crème Brûlée Kit"));
+
+        idx.put("r2", "408-222", "Kit for Trikes");
+        assertThat(idx.size()).isEqualTo(3);
+        assertThat(idx.checksum()).isNotEqualTo(before);
+        idx.put("r2", "408-222", "Kit for Bikes");
+        assertThat(idx.checksum()).isEqualTo(before);
+    }
+
+    @Test
+    void writesAfterLoadAreVisibleAndReplaceOldRows() {
+        SuggestIndex idx = loaded();
+        idx.put("r4", "999-1", "Kite");
+        idx.put("r1", "408-111", "Red Teapot");
+        idx.remove("r2");
+
+        assertThat(idx.size()).isEqualTo(3);
+        assertThat(ids(idx.suggest("kit", 10))).containsExactly("r3", "r4");
+        assertThat(ids(idx.suggest("tea", 10))).containsExactly("r1");
+        assertThat(idx.suggest("kettle", 10)).isEmpty();
+    }
+
+    @Test
+    void compactsOnceDeltaGrowsAndKeepsAnswers() {
+        SuggestIndex idx = new SuggestIndex();
+        idx.load(List.of());
+        int n = SuggestIndex.MIN_COMPACT_THRESHOLD + 50;
+        for (int i = 0; i < n; i++)
+            idx.put("r" + i, "ord-" + i, "Widget number " + i);
+        idx.remove("r0");
+
+        assertThat(idx.size()).isEqualTo(n - 1);
+        assertThat(ids(idx.suggest("ord-10049", 10))).containsExactly("r10049");
+        List<Suggestion> widgets = new ArrayList<>(idx.suggest("widget", 50));
+        assertThat(widgets).hasSize(50).extracting(Suggestion::id).doesNotContain("r0");
+    }
+}
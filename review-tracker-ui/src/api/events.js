@@ -0,0 +1,27 @@
+const API_ROOT = (import.meta?.env?.VITE_API_BASE || "").replace(/\/$/, "");
+
+// One shared EventSource for the app; handlers are keyed by event name
+// (review | notification | unread-count). Returns an unsubscribe function.
+let source = null;
+const listeners = new Set();
+
+function ensureSource() {
+  if (source || typeof EventSource === 'undefined') return;
+  source = new EventSource(`${API_ROOT}/api/events`);
+  ['review', 'notification', 'unread-count'].forEach(name => {
+    source.addEventListener(name, (e) => {
+      let data = null;
+      try { data = JSON.parse(e.data); } catch { return; }
+      listeners.forEach(l => l[name] && l[name](data));
+    });
+  });
+}
+
+export function subscribeEvents(handlers) {
+  listeners.add(handlers);
+  ensureSource();
+  return () => {
+    listeners.delete(handlers);
+    if (listeners.size === 0 && source) { source.close(); source = null; }
+  };
+}
@@ -0,0 +1,15 @@
+import axios from "axios";
+
+const API_ROOT = (import.meta?.env?.VITE_API_BASE || "").replace(/\/$/, "");
+const API_BASE = `${API_ROOT}/api/jobs`;
+
+// Background CSV import/export; poll getJob until status is SUCCEEDED or FAILED
+export const startImportJob = (file) => {
+  const fd = new FormData();
+  fd.append('file', file);
+  return axios.post(`${API_BASE}/import`, fd, { headers: { 'Content-Type': 'multipart/form-data' } });
+};
+export const startExportJob = (criteria = {}) => axios.post(`${API_BASE}/export`, criteria);
+export const getJob = (id) => axios.get(`${API_BASE}/${id}`);
+export const listJobs = () => axios.get(API_BASE);
+export const downloadJobArtifact = (id) => axios.get(`${API_BASE}/${id}/artifact`, { responseType: 'blob' });
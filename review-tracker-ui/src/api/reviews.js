@@ -21,7 +21,17 @@ const toQuery = (criteria = {}) => {
 
 export const searchReviews = (criteria, params = {}) =>
   axios.get(`${API_BASE}/search`, { params: { ...toQuery(criteria), ...params } });
-export const exportCsv = () => axios.get(`${API_BASE}/export`, { responseType: 'blob' });
+// Page plus `totals` (count, totalAmount, totalRefund, totalPendingRefund) in one request
+export const queryReviews = (criteria, params = {}) =>
+  axios.get(`${API_BASE}/query`, { params: { ...toQuery(criteria), ...params } });
+// Table rows with only the given columns (or a saved view's via `view`), names resolved server-side
+export const listReviews = (criteria, params = {}) =>
+  axios.get(`${API_BASE}/list`, { params: { ...toQuery(criteria), ...params } });
+// Keyset paging: pass the previous response's `next` as `after`
+export const searchReviewsCursor = (criteria, params = {}) =>
+  axios.get(`${API_BASE}/search/cursor`, { params: { ...toQuery(criteria), ...params } });
+export const exportCsv = (criteria = {}) =>
+  axios.get(`${API_BASE}/export`, { params: toQuery(criteria), responseType: 'blob' });
 export const importCsv = (file) => {
   const fd = new FormData();
   fd.append('file', file);
@@ -37,6 +47,9 @@ export const advanceReview = (id, date) => axios.post(`${API_BASE}/${id}/advance
 export const bulkAdvance = (ids, date) => axios.post(`${API_BASE}/bulk-advance`, { ids, date });
 
 
-export const getNotifications = () => axios.get(`${API_ROOT}/api/notifications`);
+export const getNotifications = (page = 0, size = 50) => axios.get(`${API_ROOT}/api/notifications`, { params: { page, size } });
+export const getUnreadNotificationCount = () => axios.get(`${API_ROOT}/api/notifications/unread-count`);
+export const markNotificationRead = (id) => axios.post(`${API_ROOT}/api/notifications/${id}/read`);
+export const dismissNotification = (id) => axios.post(`${API_ROOT}/api/notifications/${id}/dismiss`);
 
 export const bulkUpdate = (ids, updates) => axios.post(`${API_BASE}/bulk-update`, { ids, updates });
@@ -7,7 +7,8 @@ import {
     BellIcon
 } from "@heroicons/react/24/outline";
 import { useState, useEffect } from "react";
-import { getNotifications } from "../api/reviews";
+import { getUnreadNotificationCount } from "../api/reviews";
+import { subscribeEvents } from "../api/events";
 
 export default function BottomNav() {
     const location = useLocation();
@@ -23,12 +24,13 @@ export default function BottomNav() {
 
     const [notifCount, setNotifCount] = useState(0);
     useEffect(() => {
-        getNotifications().then(res => setNotifCount(res.data?.length || 0)).catch(() => { });
-        // Poll every 5 minutes
+        getUnreadNotificationCount().then(res => setNotifCount(res.data?.count || 0)).catch(() => { });
+        // Live updates from the server; the slow poll only covers missed events
+        const unsubscribe = subscribeEvents({ 'unread-count': (d) => setNotifCount(d?.count || 0) });
         const timer = setInterval(() => {
-            getNotifications().then(res => setNotifCount(res.data?.length || 0)).catch(() => { });
-        }, 5 * 60 * 1000);
-        return () => clearInterval(timer);
+            getUnreadNotificationCount().then(res => setNotifCount(res.data?.count || 0)).catch(() => { });
+        }, 15 * 60 * 1000);
+        return () => { clearInterval(timer); unsubscribe(); };
     }, []);
 
     return (
@@ -1,7 +1,8 @@
 import { useEffect, useState, useCallback, useMemo, useRef } from "react";
 import { useVirtualizer } from "@tanstack/react-virtual";
-import { deleteReview, searchReviews, exportCsv as apiExportCsv, importCsv as apiImportCsv, bulkDelete, aggregates as apiAggregates, advanceReview, bulkAdvance, bulkUpdate } from "../api/reviews";
+import { deleteReview, queryReviews, exportCsv as apiExportCsv, importCsv as apiImportCsv, bulkDelete, advanceReview, bulkAdvance, bulkUpdate } from "../api/reviews";
 import { getPlatforms, getMediators } from "../api/lookups";
+import { subscribeEvents } from "../api/events";
 import { listViews, saveView as apiSaveView, deleteView as apiDeleteView, shareView as apiShareView, unshareView as apiUnshareView } from "../api/views";
 import { useNavigate, useSearchParams } from "react-router-dom";
 import Modal from "./Modal";
@@ -161,20 +162,24 @@ export default function ReviewTable() {
   const navigate = useNavigate();
   const toast = useToast();
 
+  // Server-side criteria for the applied filters (shared by query and export)
+  const criteria = useMemo(() => ({
+    platformIdIn: (aPlatformIds && aPlatformIds.length > 0) ? aPlatformIds : undefined,
+    mediatorIdIn: (aMediatorIds && aMediatorIds.length > 0) ? aMediatorIds : undefined,
+    statusIn: (statusInPreset && statusInPreset.length > 0) ? statusInPreset : ((aStatuses && aStatuses.length > 0) ? aStatuses : undefined),
+    dealTypeIn: (aDealTypes && aDealTypes.length > 0) ? aDealTypes : undefined,
+    hasRefundFormUrl: hasRefundFormUrlInPreset !== null ? hasRefundFormUrlInPreset : undefined,
+    productNameContains: (aQuickMode === "both" || aQuickMode === "product") ? (aSearch || undefined) : undefined,
+    orderIdContains: (aQuickMode === "both" || aQuickMode === "order") ? (aSearch || undefined) : undefined,
+    dateRange: deliveryRange(datePreset, dateRangeFrom, dateRangeTo),
+    overdue: overdueOnly || undefined,
+  }), [aSearch, aPlatformIds, aMediatorIds, aQuickMode, aStatuses, aDealTypes, statusInPreset, hasRefundFormUrlInPreset, datePreset, dateRangeFrom, dateRangeTo, overdueOnly]);
+
   const loadReviews = useCallback(async () => {
     setLoading(true);
     try {
-      const criteria = {
-        platformIdIn: (aPlatformIds && aPlatformIds.length > 0) ? aPlatformIds : undefined,
-        mediatorIdIn: (aMediatorIds && aMediatorIds.length > 0) ? aMediatorIds : undefined,
-        statusIn: (statusInPreset && statusInPreset.length > 0) ? statusInPreset : ((aStatuses && aStatuses.length > 0) ? aStatuses : undefined),
-        dealTypeIn: (aDealTypes && aDealTypes.length > 0) ? aDealTypes : undefined,
-        hasRefundFormUrl: hasRefundFormUrlInPreset !== null ? hasRefundFormUrlInPreset : undefined,
-        productNameContains: (aQuickMode === "both" || aQuickMode === "product") ? (aSearch || undefined) : undefined,
-        orderIdContains: (aQuickMode === "both" || aQuickMode === "order") ? (aSearch || undefined) : undefined,
-      };
-      const [res, pRes, mRes, aggRes] = await Promise.all([
-        searchReviews(criteria, {
+      const [res, pRes, mRes] = await Promise.all([
+        queryReviews(criteria, {
           page,
           size,
           sort: sortField,
@@ -182,59 +187,32 @@ export default function ReviewTable() {
         }),
         getPlatforms(),
         getMediators(),
-        apiAggregates(criteria),
       ]);
       const pr = res.data;
-      let list = (pr.content || []);
-      // client-side sort by name-based pseudo fields using fresh maps
-      if (["platformName", "mediatorName"].includes(sortField)) {
-        const pMap = Object.fromEntries((pRes.data || []).map(p => [p.id, p.name]));
-        const mMap = Object.fromEntries((mRes.data || []).map(m => [m.id, m.name]));
-        const nameOf = (r) => sortField === 'platformName' ? (pMap[r.platformId] || '') : (mMap[r.mediatorId] || '');
-        list = [...list].sort((a, b) => {
-          const av = nameOf(a), bv = nameOf(b);
-          const cmp = String(av).localeCompare(String(bv));
-          return (sortDir === 'asc' ? cmp : -cmp);
-        });
-      }
-      // optional overdue filter (client side)
-      if (overdueOnly) {
-        list = list.filter(isOverdue);
-      }
-      if (datePreset === 'delivered7' || datePreset === 'delivered30' || datePreset === 'delivered90') {
-        const now = new Date();
-        const days = datePreset === 'delivered7' ? 7 : (datePreset === 'delivered90' ? 90 : 30);
-        const from = new Date(now.getTime() - days * 24 * 60 * 60 * 1000);
-        list = list.filter(r => {
-          if (!r.deliveryDate) return false;
-          const d = new Date(r.deliveryDate);
-          if (Number.isNaN(d.getTime())) return false;
-          return d >= from && d <= now;
-        });
-      } else if (datePreset === 'range' && (dateRangeFrom || dateRangeTo)) {
-        const from = dateRangeFrom ? new Date(dateRangeFrom) : null;
-        const to = dateRangeTo ? new Date(dateRangeTo) : null;
-        list = list.filter(r => {
-          if (!r.deliveryDate) return false;
-          const d = new Date(r.deliveryDate);
-          if (Number.isNaN(d.getTime())) return false;
-          if (from && d < from) return false;
-          if (to && d > to) return false;
-          return true;
-        });
-      }
-      setReviews(list);
+      // platformName/mediatorName are stored on each review, so every sort is server-side
+      setReviews(pr.content || []);
       setSelected(new Set());
       setTotalPages(pr.totalPages ?? 0);
       setTotalElements(pr.totalElements ?? 0);
       setPlatforms(pRes.data || []);
       setMediators(mRes.data || []);
-      setAggTotals(overdueOnly ? null : (aggRes.data || null));
+      setAggTotals(pr.totals || null);
     } catch (err) {
       console.error("Failed to fetch reviews", err);
     }
     setLoading(false);
-  }, [aSearch, aPlatformIds, aMediatorIds, sortField, sortDir, page, size, aQuickMode, aStatuses, aDealTypes, statusInPreset, overdueOnly, datePreset, dateRangeFrom, dateRangeTo, hasRefundFormUrlInPreset, isOverdue]);
+  }, [criteria, sortField, sortDir, page, size]);
+
+  // Apply pushed changes to rows already on screen instead of reloading the page
+  useEffect(() => subscribeEvents({
+    review: ({ action, id, review }) => {
+      if (action === 'DELETE') {
+        setReviews(prev => prev.filter(r => r.id !== id));
+      } else if (review) {
+        setReviews(prev => prev.map(r => (r.id === id && (r.version ?? 0) <= (review.version ?? 0)) ? review : r));
+      }
+    },
+  }), []);
 
   // Read optional dashboard preset and apply multi-status filters
   useEffect(() => {
@@ -482,7 +460,11 @@ export default function ReviewTable() {
       title: 'Delete Selected',
       message: `Delete ${selected.size} selected review(s)?`,
       onConfirm: async () => {
-        try { await bulkDelete(Array.from(selected)); setSelected(new Set()); await loadReviews(); toast.show('Deleted', 'success'); }
+        try {
+          const res = await bulkDelete(Array.from(selected));
+          setSelected(new Set()); await loadReviews();
+          toast.show(bulkSummary(res.data, 'Deleted'), res.data?.failed ? 'error' : 'success');
+        }
         catch (e) { console.error(e); toast.show('Bulk delete failed', 'error'); }
       }
     });
@@ -529,7 +511,7 @@ export default function ReviewTable() {
         const url = URL.createObjectURL(blob);
         const a = document.createElement('a'); a.href = url; a.download = 'reviews-selected.csv'; a.click(); URL.revokeObjectURL(url);
       } else {
-        const res = await apiExportCsv();
+        const res = await apiExportCsv(criteria);
         const blob = res.data instanceof Blob ? res.data : new Blob([res.data], { type: 'text/csv' });
         const url = URL.createObjectURL(blob);
         const a = document.createElement('a');
@@ -548,7 +530,14 @@ export default function ReviewTable() {
     const file = e.target.files?.[0];
     if (!file) return;
     try {
-      await apiImportCsv(file);
+      const res = await apiImportCsv(file);
+      const report = res.data || {};
+      if (report.failed > 0) {
+        const lines = (report.errors || []).slice(0, 10).map(e => `Line ${e.line}${e.orderId ? ` (${e.orderId})` : ''}: ${e.message}`);
+        alert(`Imported ${report.imported}, failed ${report.failed}\n` + lines.join('\n') + (report.failed > lines.length ? '\n…' : ''));
+      } else {
+        toast.show(`Imported ${report.imported ?? 0} reviews`, 'success');
+      }
       await loadReviews();
     } catch (err) {
       console.error('Import failed', err);
@@ -1354,8 +1343,8 @@ export default function ReviewTable() {
             <button className="px-3 py-1 bg-blue-600 text-white rounded" onClick={async () => {
               if (selected.size === 0) { toast.show('Select rows first', 'error'); return; }
               try {
-                await bulkAdvance(Array.from(selected), bulkAdvanceDate);
-                toast.show('Advanced', 'success');
+                const res = await bulkAdvance(Array.from(selected), bulkAdvanceDate);
+                toast.show(bulkSummary(res.data, 'Advanced'), res.data?.failed ? 'error' : 'success');
                 setBulkAdvanceOpen(false);
                 setSelected(new Set());
                 await loadReviews();
@@ -1380,8 +1369,8 @@ export default function ReviewTable() {
         statusOptions={statusOptions}
         onSave={async (updates) => {
           try {
-            await bulkUpdate(Array.from(selected), updates);
-            toast.show(`Updated ${selected.size} reviews`, 'success');
+            const res = await bulkUpdate(Array.from(selected), updates);
+            toast.show(bulkSummary(res.data, 'Updated'), res.data?.failed ? 'error' : 'success');
             setSelected(new Set());
             setBulkEditOpen(false);
             await loadReviews();
@@ -1480,6 +1469,33 @@ function FABWrapper() {
   return <FAB to="/reviews/new" ariaLabel="Add Review" />;
 }
 
+// Summarises a BulkResult: "Advanced 8, 2 failed (1 changed by someone else)"
+function bulkSummary(result, verb) {
+  if (!result) return verb;
+  let msg = `${verb} ${result.succeeded}`;
+  if (result.failed) {
+    const conflicts = (result.results || []).filter(r => r.status === 'CONFLICT').length;
+    msg += `, ${result.failed} failed`;
+    if (conflicts) msg += ` (${conflicts} changed by someone else)`;
+  }
+  return msg;
+}
+
+// Delivery-date filter as the server's field:from..to range, or undefined for none
+function deliveryRange(preset, from, to) {
+  const days = { delivered7: 7, delivered30: 30, delivered90: 90 }[preset];
+  if (days) {
+    const now = new Date();
+    const start = new Date(now);
+    start.setDate(start.getDate() - days); // calendar days, so DST changes don't shift the start
+    return `deliveryDate:${formatDate(start)}..${formatDate(now)}`;
+  }
+  if (preset === 'range' && (from || to)) {
+    return `deliveryDate:${from ? formatDate(from) : ''}..${to ? formatDate(to) : ''}`;
+  }
+  return undefined;
+}
+
 function dealTypeLabel(code) {
   switch (code) {
     case 'REVIEW_PUBLISHED': return 'Review Published';
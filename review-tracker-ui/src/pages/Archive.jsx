@@ -1,5 +1,5 @@
 import { useCallback, useEffect, useRef, useState } from "react";
-import { searchReviews, aggregates as apiAggregates } from "../api/reviews";
+import { queryReviews } from "../api/reviews";
 import { getPlatforms, getMediators } from "../api/lookups";
 import { useNavigate } from "react-router-dom";
 import { EyeIcon, EllipsisVerticalIcon } from "@heroicons/react/24/outline";
@@ -30,13 +30,10 @@ export default function Archive() {
   const load = useCallback(async () => {
     setLoading(true);
     const criteria = { statusIn: ['payment received'], platformId: platformId || undefined, mediatorId: mediatorId || undefined, productNameContains: search || undefined, orderIdContains: search || undefined };
-    const [res, agg] = await Promise.all([
-      searchReviews(criteria, { page, size, sort: 'paymentReceivedDate', dir: 'DESC' }),
-      apiAggregates({ statusIn: ['payment received'], platformIdIn: platformId ? [platformId] : undefined, mediatorIdIn: mediatorId ? [mediatorId] : undefined, productNameContains: search || undefined, orderIdContains: search || undefined })
-    ]);
+    const res = await queryReviews(criteria, { page, size, sort: 'paymentReceivedDate', dir: 'DESC' });
     setItems(res.data.content || []);
     setTotalPages(res.data.totalPages || 0);
-    setAggTotals(agg.data || null);
+    setAggTotals(res.data.totals || null);
     setLoading(false);
   }, [page, size, search, platformId, mediatorId]);
 
@@ -1,6 +1,7 @@
 import { useEffect, useState } from "react";
 import { Link } from "react-router-dom";
 import { getDashboardStats } from "../api/reviews";
+import { subscribeEvents } from "../api/events";
 import {
   ArrowTrendingUpIcon,
   CurrencyRupeeIcon,
@@ -28,7 +29,12 @@ export default function Dashboard() {
       }
     }
     load();
-    return () => { cancelled = true; };
+    // Counters are a single cheap read; refresh shortly after a burst of review changes
+    let timer = null;
+    const unsubscribe = subscribeEvents({
+      review: () => { clearTimeout(timer); timer = setTimeout(load, 1000); },
+    });
+    return () => { cancelled = true; clearTimeout(timer); unsubscribe(); };
   }, []);
 
   if (loading) return <DashboardSkeleton />;
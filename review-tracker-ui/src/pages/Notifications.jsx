@@ -1,20 +1,53 @@
 import { useEffect, useState } from "react";
-import { getNotifications } from "../api/reviews";
+import { getNotifications, markNotificationRead, dismissNotification } from "../api/reviews";
+import { subscribeEvents } from "../api/events";
 import { Link, useNavigate } from "react-router-dom";
-import { BellIcon, ExclamationTriangleIcon, InformationCircleIcon, ClockIcon, ChevronRightIcon, Cog6ToothIcon, BookOpenIcon } from "@heroicons/react/24/outline";
+import { BellIcon, ExclamationTriangleIcon, InformationCircleIcon, ClockIcon, ChevronRightIcon, Cog6ToothIcon, BookOpenIcon, XMarkIcon } from "@heroicons/react/24/outline";
 import Modal from "../components/Modal";
 
+const PAGE_SIZE = 50;
+
 export default function Notifications() {
     const [notifications, setNotifications] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [page, setPage] = useState(0);
+    const [hasMore, setHasMore] = useState(false);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [rulesOpen, setRulesOpen] = useState(false);
     const navigate = useNavigate();
 
+    // Pages are appended; live inserts shift offsets, so rows already shown are skipped
+    const loadPage = (p) => getNotifications(p, PAGE_SIZE).then(res => {
+        const rows = res.data?.content || [];
+        setNotifications(prev => {
+            if (p === 0) return rows;
+            const seen = new Set(prev.map(n => n.id));
+            return [...prev, ...rows.filter(n => !seen.has(n.id))];
+        });
+        setPage(p);
+        setHasMore(p + 1 < (res.data?.totalPages || 0));
+    });
+
+    const loadMore = () => {
+        setLoadingMore(true);
+        loadPage(page + 1)
+            .catch(err => console.error(err))
+            .finally(() => setLoadingMore(false));
+    };
+
+    const dismiss = (id) => {
+        dismissNotification(id)
+            .then(() => setNotifications(prev => prev.filter(n => n.id !== id)))
+            .catch(err => console.error(err));
+    };
+
     useEffect(() => {
-        getNotifications()
-            .then(res => setNotifications(res.data))
+        loadPage(0)
             .catch(err => console.error(err))
             .finally(() => setLoading(false));
+        return subscribeEvents({
+            notification: (n) => setNotifications(prev => prev.some(p => p.id === n.id) ? prev : [n, ...prev]),
+        });
     }, []);
 
     if (loading) {
@@ -58,10 +91,10 @@ export default function Notifications() {
                     </div>
                 ) : (
                     notifications.map((n) => (
+                        <div key={n.id} className="relative">
                         <button
-                            key={n.id}
-                            onClick={() => navigate(n.actionUrl)}
-                            className="w-full text-left p-4 hover:bg-gray-50 transition-colors flex gap-4 items-start group first:rounded-t-none last:rounded-b-xl"
+                            onClick={() => { if (!n.read) markNotificationRead(n.id).catch(() => { }); navigate(n.actionUrl); }}
+                            className="w-full text-left p-4 pr-10 hover:bg-gray-50 transition-colors flex gap-4 items-start group first:rounded-t-none last:rounded-b-xl"
                         >
                             <div className={`p-2 rounded-full shrink-0 ${n.type === 'URGENT' ? 'bg-red-100 text-red-600' :
                                 n.type === 'WARNING' ? 'bg-orange-100 text-orange-600' :
@@ -73,7 +106,7 @@ export default function Notifications() {
                             </div>
                             <div className="flex-1 min-w-0 pt-1">
                                 <div className="flex items-center justify-between mb-1">
-                                    <span className="font-semibold text-gray-900 line-clamp-1">{n.title}</span>
+                                    <span className={`text-gray-900 line-clamp-1 ${n.read ? 'font-medium' : 'font-semibold'}`}>{n.title}</span>
                                     <span className="text-[10px] font-medium px-2 py-0.5 rounded-full bg-gray-100 text-gray-500 whitespace-nowrap">Order: {n.orderId}</span>
                                 </div>
                                 <p className="text-sm text-gray-600 leading-relaxed line-clamp-2">{n.message}</p>
@@ -82,8 +115,19 @@ export default function Notifications() {
                                 <ChevronRightIcon className="w-4 h-4 text-gray-300 group-hover:text-indigo-400 transition-colors" />
                             </div>
                         </button>
+                        <button type="button" title="Dismiss" aria-label="Dismiss" onClick={() => dismiss(n.id)} className="absolute top-2 right-2 p-1 rounded-full text-gray-300 hover:text-gray-600 hover:bg-gray-100">
+                            <XMarkIcon className="w-4 h-4" />
+                        </button>
+                        </div>
                     ))
                 )}
+                {hasMore && (
+                    <div className="p-4 text-center">
+                        <button onClick={loadMore} disabled={loadingMore} className="px-4 py-2 text-sm font-medium text-indigo-600 bg-white border border-indigo-100 rounded-full shadow-sm hover:bg-indigo-50 disabled:opacity-50">
+                            {loadingMore ? 'Loading…' : 'Load more'}
+                        </button>
+                    </div>
+                )}
             </div>
 
             <Modal open={rulesOpen} title="Logic Rules" onClose={() => setRulesOpen(false)}>
@@ -1,31 +1,32 @@
-import { useEffect, useMemo, useState } from "react";
+import { useEffect, useState } from "react";
 import { useParams } from "react-router-dom";
 import { formatCurrencyINR as formatCurrency } from "../utils/format";
-import { getPlatforms, getMediators } from "../api/lookups";
-import { searchReviews, aggregates as apiAggregates } from "../api/reviews";
+import { listReviews, aggregates } from "../api/reviews";
 import axios from "axios";
 
+// Same fallback as the backend's ReviewListService.DEFAULT_COLUMNS
+const DEFAULT_COLUMNS = ['orderId', 'productName', 'platformName', 'status', 'dealType', 'mediatorName', 'amountRupees', 'refundAmountRupees', 'orderedDate'];
+
+// colOrder (or the default), minus columns the view hides; a column missing from visibleCols is shown
+function viewColumns(cfg) {
+  const order = Array.isArray(cfg.colOrder) ? cfg.colOrder : DEFAULT_COLUMNS;
+  const visible = cfg.visibleCols || {};
+  return order.filter(k => visible[k] !== false);
+}
+
 export default function SharedView() {
   const { slug } = useParams();
   const [meta, setMeta] = useState(null);
   const [rows, setRows] = useState([]);
   const [loading, setLoading] = useState(true);
-  const [platforms, setPlatforms] = useState([]);
-  const [mediators, setMediators] = useState([]);
   const [totalAmount, setTotalAmount] = useState(null);
   const [totalRefund, setTotalRefund] = useState(null);
 
   useEffect(() => {
     async function load() {
       try {
-        const [{ data: meta }, p, m] = await Promise.all([
-          axios.get(`/api/views/shared/${slug}`),
-          getPlatforms(),
-          getMediators(),
-        ]);
+        const { data: meta } = await axios.get(`/api/views/shared/${slug}`);
         setMeta(meta);
-        setPlatforms(p.data||[]);
-        setMediators(m.data||[]);
         const cfg = meta?.config || {};
         const criteria = {
           platformIdIn: (cfg.fPlatformIds && cfg.fPlatformIds.length>0) ? cfg.fPlatformIds : undefined,
@@ -35,16 +36,14 @@ export default function SharedView() {
           productNameContains: (cfg.quickMode === 'both' || cfg.quickMode === 'product') ? (cfg.search || undefined) : undefined,
           orderIdContains: (cfg.quickMode === 'both' || cfg.quickMode === 'order') ? (cfg.search || undefined) : undefined,
         };
+        // Rows carry only the view's columns, with platform and mediator names filled in by the server
         const [res, agg] = await Promise.all([
-          searchReviews(criteria, { page: 0, size: cfg.size || 100, sort: cfg.sortField || 'orderedDate', dir: (cfg.sortDir || 'DESC').toUpperCase() }),
-          apiAggregates(criteria)
+          listReviews(criteria, { columns: viewColumns(cfg).join(','), page: 0, size: cfg.size || 100, sort: cfg.sortField || 'orderedDate', dir: (cfg.sortDir || 'DESC').toUpperCase() }),
+          aggregates(criteria),
         ]);
-        const list = res.data.content || [];
-        setRows(list);
-        const fallbackAmount = list.reduce((s, r) => s + (+r.amountRupees || 0), 0);
-        const fallbackRefund = list.reduce((s, r) => s + (+(r.refundAmountRupees ?? ((+r.amountRupees||0) - (+r.lessRupees||0))) || 0), 0);
-        setTotalAmount(Number(agg?.data?.totalAmount ?? fallbackAmount));
-        setTotalRefund(Number(agg?.data?.totalRefund ?? fallbackRefund));
+        setRows(res.data.content || []);
+        setTotalAmount(Number(agg.data?.totalAmount ?? 0));
+        setTotalRefund(Number(agg.data?.totalRefund ?? 0));
       } finally {
         setLoading(false);
       }
@@ -52,13 +51,7 @@ export default function SharedView() {
     load();
   }, [slug]);
 
-  const platformMap = useMemo(() => Object.fromEntries(platforms.map(p => [p.id, p.name])), [platforms]);
-  const mediatorMap = useMemo(() => Object.fromEntries(mediators.map(m => [m.id, m.name])), [mediators]);
-
-  const cfg = meta?.config || {};
-  const colOrder = (cfg.colOrder && Array.isArray(cfg.colOrder) ? cfg.colOrder : ['orderId','productName','platformName','status','dealType','mediatorName','refundAmountRupees']);
-  const visible = (cfg.visibleCols || {});
-  const columns = colOrder.filter(k => visible[k] !== false);
+  const columns = viewColumns(meta?.config || {});
 
   const dealTypeLabel = (code) => {
     switch (code) {
@@ -73,10 +66,10 @@ export default function SharedView() {
     switch (key) {
       case 'orderId': return r.orderId;
       case 'productName': return r.productName;
-      case 'platformName': return platformMap[r.platformId] || r.platformId;
+      case 'platformName': return r.platformName || r.platformId;
       case 'status': return r.status;
       case 'dealType': return dealTypeLabel(r.dealType);
-      case 'mediatorName': return mediatorMap[r.mediatorId] || r.mediatorId;
+      case 'mediatorName': return r.mediatorName || r.mediatorId;
       case 'amountRupees': return formatCurrency(r.amountRupees);
       case 'refundAmountRupees': return formatCurrency(r.refundAmountRupees ?? ((+r.amountRupees||0) - (+r.lessRupees||0)));
       default: return r[key];
@@ -87,10 +80,10 @@ export default function SharedView() {
     switch (key) {
       case 'orderId': return r.orderId ?? '';
       case 'productName': return r.productName ?? '';
-      case 'platformName': return (platformMap[r.platformId] || r.platformId || '');
+      case 'platformName': return (r.platformName || r.platformId || '');
       case 'status': return r.status ?? '';
       case 'dealType': return dealTypeLabel(r.dealType ?? '');
-      case 'mediatorName': return (mediatorMap[r.mediatorId] || r.mediatorId || '');
+      case 'mediatorName': return (r.mediatorName || r.mediatorId || '');
       case 'amountRupees': return String(r.amountRupees ?? '');
       case 'refundAmountRupees': {
         const v = r.refundAmountRupees ?? ((+r.amountRupees||0) - (+r.lessRupees||0));
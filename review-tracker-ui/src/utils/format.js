@@ -7,7 +7,8 @@ export function formatInt(val) {
   return Number(val || 0).toLocaleString('en-IN');
 }
 
-// Expects ISO date string (yyyy-MM-dd or ISO). Returns yyyy-MM-dd.
+// Expects a Date or ISO date string (yyyy-MM-dd or ISO). Returns yyyy-MM-dd in local time,
+// so a date picked (local midnight) or "today" east of UTC doesn't become the day before.
 export function formatDate(val) {
   if (!val) return '';
   try {
@@ -15,7 +16,8 @@ export function formatDate(val) {
     if (/^\d{4}-\d{2}-\d{2}$/.test(val)) return val;
     const d = new Date(val);
     if (Number.isNaN(d.getTime())) return String(val);
-    return d.toISOString().slice(0, 10);
+    const pad = (n) => String(n).padStart(2, '0');
+    return `${d.getFullYear()}-${pad(d.getMonth() + 1)}-${pad(d.getDate())}`;
   } catch {
     return String(val);
   }